@@ -0,0 +1,140 @@
+package ch.epfl.cs107.play;
+
+import ch.epfl.cs107.play.game.Game;
+import ch.epfl.cs107.play.game.actor.bike.BikeGame;
+import ch.epfl.cs107.play.io.DefaultFileSystem;
+import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.io.FolderFileSystem;
+import ch.epfl.cs107.play.io.ResourceFileSystem;
+import ch.epfl.cs107.play.window.headless.HeadlessWindow;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+
+/**
+ * Entry point without display, stepping a game as fast as possible.
+ * Usage: <code>HeadlessProgram [steps] [deltaTime]</code>, or <code>HeadlessProgram -replay name</code> to play back a recorded session.
+ */
+public class HeadlessProgram {
+
+	/** Default number of simulated steps. */
+	public static final int DEFAULT_STEPS = 10000;
+
+	/** Default fixed time step, in seconds. */
+	public static final float DEFAULT_DELTA_TIME = 1.0f / 60.0f;
+
+	/**
+	 * Scripted input, applied before each step.
+	 */
+	public interface Script {
+
+		/**
+		 * Updates keyboard state.
+		 * @param step index of the upcoming step
+		 * @param window target window, not null
+		 */
+		public void apply(int step, HeadlessWindow window);
+
+	}
+
+	/** Script that holds the UP key during the whole run. */
+	public static final Script HOLD_UP = new Script() {
+		@Override
+		public void apply(int step, HeadlessWindow window) {
+			window.setKey(KeyEvent.VK_UP, true);
+		}
+	};
+
+	/**
+	 * Runs a game with a fixed time step, until the step count is reached or the window is closed.
+	 * @param game game to run, not null
+	 * @param window headless context, not null
+	 * @param fileSystem file system to use, not null
+	 * @param steps maximal number of steps, non-negative
+	 * @param deltaTime fixed time step, in seconds, non-negative
+	 * @param script scripted input, may be null
+	 * @return simulated steps per second of wall-clock time
+	 */
+	public static double run(Game game, HeadlessWindow window, FileSystem fileSystem, int steps, float deltaTime, Script script) {
+		if (steps < 0 || deltaTime < 0.0f)
+			throw new IllegalArgumentException();
+		int count = 0;
+		long start = System.nanoTime();
+		try {
+			if (game.begin(window, fileSystem)) {
+				while (count < steps && !window.isCloseRequested()) {
+
+					// Prepare input for this step
+					if (script != null)
+						script.apply(count, window);
+
+					// Let the game do its stuff, then publish input
+					window.update();
+					game.update(deltaTime);
+					++count;
+				}
+			}
+		} finally {
+			game.end();
+		}
+		long elapsed = System.nanoTime() - start;
+		return elapsed > 0 ? count * 1E9 / elapsed : 0.0;
+	}
+
+	/**
+	 * Plays back a recorded session, with its own time steps, until its end or until the window is closed.
+	 * @param game game to run, not null
+	 * @param window headless context, not null
+	 * @param fileSystem file system to use, not null
+	 * @param replay recorded session, not null
+	 * @return simulated steps per second of wall-clock time
+	 */
+	public static double run(Game game, HeadlessWindow window, FileSystem fileSystem, Replay replay) {
+		int count = 0;
+		long start = System.nanoTime();
+		try {
+			if (game.begin(window, fileSystem)) {
+				while (count < replay.getFrameCount() && !window.isCloseRequested()) {
+
+					// Restore recorded input, then step as recorded
+					replay.apply(count, window);
+					window.update();
+					game.update(replay.getDeltaTime(count));
+					++count;
+				}
+			}
+		} finally {
+			game.end();
+		}
+		long elapsed = System.nanoTime() - start;
+		return elapsed > 0 ? count * 1E9 / elapsed : 0.0;
+	}
+
+	/**
+	 * Headless entry point.
+	 * @param args optional step count and time step, or replay option and file name
+	 * @throws IOException if replay cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+
+		// Define cascading file system
+		FileSystem fileSystem = new FolderFileSystem(new ResourceFileSystem(DefaultFileSystem.INSTANCE));
+
+		// Use display-less context
+		HeadlessWindow window = new HeadlessWindow();
+		try {
+			double rate;
+			if (args.length > 1 && args[0].equals("-replay")) {
+				rate = run(new BikeGame(), window, fileSystem, Replay.read(fileSystem, args[1]));
+			} else {
+				int steps = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STEPS;
+				float deltaTime = args.length > 1 ? Float.parseFloat(args[1]) : DEFAULT_DELTA_TIME;
+				rate = run(new BikeGame(), window, fileSystem, steps, deltaTime, HOLD_UP);
+			}
+			System.out.println(String.format("%d steps, %.1f steps per second, %d draw calls in last frame",
+					window.getFrameCount(), rate, window.getDrawCount()));
+		} finally {
+			window.dispose();
+		}
+	}
+
+}
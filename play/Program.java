@@ -8,18 +8,17 @@ import ch.epfl.cs107.play.io.FolderFileSystem;
 import ch.epfl.cs107.play.io.ResourceFileSystem;
 import ch.epfl.cs107.play.window.Window;
 import ch.epfl.cs107.play.window.swing.SwingWindow;
+import java.io.IOException;
 
 /**
  * Main entry point.
  */
 public class Program {
 
-	/** Maximal time step allowed for a single frame. */
-	public static final float MAX_DELTA_TIME = 0.1f;
-
 	/**
 	 * Main entry point.
-	 * @param args ignored
+	 * Usage: <code>Program [replay]</code>, where the session is recorded into the optional replay file.
+	 * @param args optional replay file name
 	 */
 	public static void main(String[] args) {
 
@@ -28,6 +27,7 @@ public class Program {
 
 		// Use Swing display
 		Window window = new SwingWindow("Play", fileSystem);
+		Replay replay = args.length > 0 ? new Replay() : null;
 		try {
 
 			// Create a demo game
@@ -55,13 +55,10 @@ public class Program {
 					now = System.nanoTime();
 					deltaTime = (now - before) / 1E9f;
 
-					// Clip time interval
-					if (deltaTime > MAX_DELTA_TIME) {
-						deltaTime = MAX_DELTA_TIME;
-						System.out.println("Can't keep up!");
+					// Let the game do its stuff, recording what it sees
+					if (replay != null) {
+						replay.record(deltaTime, window.getKeyboard());
 					}
-
-					// Let the game do its stuff
 					game.update(deltaTime);
 					
 					// Render and update input
@@ -76,6 +73,15 @@ public class Program {
 			// Release resources
 			window.dispose();
 
+			// Save recorded session
+			if (replay != null) {
+				try {
+					replay.write(fileSystem, args[0]);
+				} catch (IOException e) {
+					System.out.println("Can't save replay: " + e.getMessage());
+				}
+			}
+
 		}
 	}
 
@@ -0,0 +1,197 @@
+package ch.epfl.cs107.play;
+
+import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.window.Keyboard;
+import ch.epfl.cs107.play.window.headless.HeadlessWindow;
+import java.awt.event.KeyEvent;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Recorded session, made of the time step and the state of some keys for each frame.
+ * Given the same game, playing it back reproduces exactly the same simulation.
+ */
+public final class Replay implements HeadlessProgram.Script {
+
+	/** Keys recorded by default, those read by the bike and by game controls. */
+	public static final int[] DEFAULT_KEYS = {
+		KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_SPACE,
+		KeyEvent.VK_C, KeyEvent.VK_R, KeyEvent.VK_ENTER
+	};
+
+	// File header
+	private static final int MAGIC = 0x504C5259;
+	private static final int VERSION = 1;
+
+	// Recorded keys, one bit each in frame states
+	private final int[] keys;
+
+	// Time step and key states of each frame
+	private float[] deltaTimes;
+	private int[] states;
+	private int frameCount;
+
+	/**
+	 * Creates a new empty replay.
+	 * @param keys recorded key codes, at most 32, not null
+	 * @see java.awt.event.KeyEvent
+	 */
+	public Replay(int... keys) {
+		if (keys.length > 32)
+			throw new IllegalArgumentException("At most 32 keys can be recorded");
+		this.keys = keys.clone();
+		deltaTimes = new float[1024];
+		states = new int[1024];
+	}
+
+	/** Creates a new empty replay, recording default keys. */
+	public Replay() {
+		this(DEFAULT_KEYS);
+	}
+
+	/**
+	 * Appends a frame, to be called before each game update.
+	 * @param deltaTime time step given to the game, non-negative
+	 * @param keyboard keyboard read by the game during this frame, not null
+	 */
+	public void record(float deltaTime, Keyboard keyboard) {
+		if (deltaTime < 0.0f)
+			throw new IllegalArgumentException();
+		int state = 0;
+		for (int i = 0; i < keys.length; ++i)
+			if (keyboard.get(keys[i]).isDown())
+				state |= 1 << i;
+		add(deltaTime, state);
+	}
+
+	// Append a frame, growing storage if needed
+	private void add(float deltaTime, int state) {
+		if (frameCount == deltaTimes.length) {
+			deltaTimes = Arrays.copyOf(deltaTimes, frameCount * 2);
+			states = Arrays.copyOf(states, frameCount * 2);
+		}
+		deltaTimes[frameCount] = deltaTime;
+		states[frameCount] = state;
+		++frameCount;
+	}
+
+	/** @return number of recorded frames */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	/** @return total recorded time, in seconds */
+	public double getDuration() {
+		double duration = 0.0;
+		for (int i = 0; i < frameCount; ++i)
+			duration += deltaTimes[i];
+		return duration;
+	}
+
+	/**
+	 * @param frame frame index, between 0 and frame count excluded
+	 * @return time step given to the game during this frame
+	 */
+	public float getDeltaTime(int frame) {
+		if (frame < 0 || frame >= frameCount)
+			throw new IndexOutOfBoundsException();
+		return deltaTimes[frame];
+	}
+
+	/**
+	 * Sets recorded keys of a frame, released after the last one.
+	 * @param step frame index, non-negative
+	 * @param window target window, not null
+	 */
+	@Override
+	public void apply(int step, HeadlessWindow window) {
+		int state = step < frameCount ? states[step] : 0;
+		for (int i = 0; i < keys.length; ++i)
+			window.setKey(keys[i], (state & (1 << i)) != 0);
+	}
+
+	/**
+	 * Saves this replay, consecutive identical frames being stored once.
+	 * @param fileSystem target file system, not null
+	 * @param name file name, not null
+	 * @throws IOException if file cannot be written
+	 */
+	public void write(FileSystem fileSystem, String name) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileSystem.write(name)))) {
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.writeByte(keys.length);
+			for (int key : keys)
+				writeVarInt(output, key);
+			writeVarInt(output, frameCount);
+			int i = 0;
+			while (i < frameCount) {
+				int run = 1;
+				while (i + run < frameCount && states[i + run] == states[i] &&
+						Float.floatToRawIntBits(deltaTimes[i + run]) == Float.floatToRawIntBits(deltaTimes[i]))
+					++run;
+				writeVarInt(output, run);
+				output.writeFloat(deltaTimes[i]);
+				writeVarInt(output, states[i]);
+				i += run;
+			}
+		}
+	}
+
+	/**
+	 * Loads a replay.
+	 * @param fileSystem source file system, not null
+	 * @param name file name, not null
+	 * @return loaded replay, not null
+	 * @throws IOException if file cannot be read or is not a valid replay
+	 */
+	public static Replay read(FileSystem fileSystem, String name) throws IOException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(fileSystem.read(name)))) {
+			if (input.readInt() != MAGIC)
+				throw new IOException("Not a replay: " + name);
+			if (input.readUnsignedByte() != VERSION)
+				throw new IOException("Unsupported replay version: " + name);
+			int[] keys = new int[input.readUnsignedByte()];
+			for (int i = 0; i < keys.length; ++i)
+				keys[i] = readVarInt(input);
+			Replay replay = new Replay(keys);
+			int frameCount = readVarInt(input);
+			while (replay.frameCount < frameCount) {
+				int run = readVarInt(input);
+				float deltaTime = input.readFloat();
+				int state = readVarInt(input);
+				if (run <= 0 || run > frameCount - replay.frameCount || !(deltaTime >= 0.0f))
+					throw new IOException("Corrupted replay: " + name);
+				for (int i = 0; i < run; ++i)
+					replay.add(deltaTime, state);
+			}
+			return replay;
+		}
+	}
+
+	// Write an unsigned integer with 7 bits per byte
+	private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			output.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.writeByte(value);
+	}
+
+	// Read an unsigned integer with 7 bits per byte
+	private static int readVarInt(DataInputStream input) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = input.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Malformed integer");
+	}
+
+}
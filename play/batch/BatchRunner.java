@@ -0,0 +1,165 @@
+package ch.epfl.cs107.play.batch;
+
+import ch.epfl.cs107.play.HeadlessProgram;
+import ch.epfl.cs107.play.io.DefaultFileSystem;
+import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.io.FolderFileSystem;
+import ch.epfl.cs107.play.io.ResourceFileSystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Steps many independent sessions on a fixed pool of worker threads.
+ * Usage: <code>BatchRunner [sessions] [steps] [lockstep|free]</code>.
+ */
+public class BatchRunner implements AutoCloseable {
+
+	private final int threads;
+	private final ExecutorService executor;
+
+	/**
+	 * Creates a new batch runner.
+	 * @param threads number of worker threads, positive
+	 */
+	public BatchRunner(int threads) {
+		if (threads <= 0)
+			throw new IllegalArgumentException();
+		this.threads = threads;
+		executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "batch-worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/** Creates a new batch runner, using one thread per available core. */
+	public BatchRunner() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/** @return number of worker threads */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Runs each session to completion, independently of the others.
+	 * @param sessions sessions to run, not null
+	 * @return results, in the same order as sessions
+	 */
+	public List<Result> runFree(List<Session> sessions) {
+		List<Future<Result>> futures = new ArrayList<>(sessions.size());
+		for (Session session : sessions)
+			futures.add(executor.submit(session::run));
+		List<Result> results = new ArrayList<>(sessions.size());
+		for (Future<Result> future : futures)
+			results.add(get(future));
+		return results;
+	}
+
+	/**
+	 * Runs all sessions one step at a time, waiting for every session before the next step.
+	 * Sessions are split in one contiguous chunk per worker thread.
+	 * @param sessions sessions to run, not null
+	 * @return results, in the same order as sessions
+	 */
+	public List<Result> runLockStep(List<Session> sessions) {
+
+		// Prepare one task per chunk, reused for every step
+		int size = sessions.size();
+		int chunks = Math.min(threads, size);
+		List<Callable<Boolean>> tasks = new ArrayList<>(chunks);
+		for (int c = 0; c < chunks; ++c) {
+			List<Session> chunk = sessions.subList(c * size / chunks, (c + 1) * size / chunks);
+			tasks.add(() -> {
+				boolean running = false;
+				for (Session session : chunk)
+					running |= session.step();
+				return running;
+			});
+		}
+
+		// Step until every session is done
+		boolean running = chunks > 0;
+		while (running) {
+			running = false;
+			List<Future<Boolean>> futures;
+			try {
+				futures = executor.invokeAll(tasks);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			for (Future<Boolean> future : futures)
+				running |= get(future);
+		}
+
+		// Collect results
+		List<Result> results = new ArrayList<>(size);
+		for (Session session : sessions)
+			results.add(session.getResult());
+		return results;
+	}
+
+	// Wait for completion and propagate worker failures
+	private static <T> T get(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Batch entry point.
+	 * @param args optional session count, step count and mode
+	 */
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+		int steps = args.length > 1 ? Integer.parseInt(args[1]) : HeadlessProgram.DEFAULT_STEPS;
+		boolean lockStep = args.length > 2 && args[2].equals("lockstep");
+
+		// Define cascading file system
+		FileSystem fileSystem = new FolderFileSystem(new ResourceFileSystem(DefaultFileSystem.INSTANCE));
+
+		// Create independent sessions
+		List<Session> sessions = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+			sessions.add(new Session(i, fileSystem, steps, HeadlessProgram.DEFAULT_DELTA_TIME, HeadlessProgram.HOLD_UP));
+
+		// Run them all
+		try (BatchRunner runner = new BatchRunner()) {
+			long start = System.nanoTime();
+			List<Result> results = lockStep ? runner.runLockStep(sessions) : runner.runFree(sessions);
+			long elapsed = System.nanoTime() - start;
+			long total = 0;
+			int finished = 0;
+			for (Result result : results) {
+				total += result.getSteps();
+				if (result.isFinished())
+					++finished;
+			}
+			System.out.println(String.format("%d sessions on %d threads, %d finished, %.1f steps per second",
+					count, runner.getThreads(), finished, total * 1E9 / elapsed));
+		}
+	}
+
+}
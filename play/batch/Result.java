@@ -0,0 +1,60 @@
+package ch.epfl.cs107.play.batch;
+
+/**
+ * Contains the outcome of a single session.
+ */
+public final class Result {
+
+	private final int index;
+	private final boolean finished;
+	private final int steps;
+	private final float time;
+	private final int score;
+
+	/**
+	 * Creates a new result.
+	 * @param index session identifier
+	 * @param finished whether the level was won
+	 * @param steps number of simulated steps
+	 * @param time simulated time, in seconds
+	 * @param score final score
+	 */
+	public Result(int index, boolean finished, int steps, float time, int score) {
+		this.index = index;
+		this.finished = finished;
+		this.steps = steps;
+		this.time = time;
+		this.score = score;
+	}
+
+	/** @return session identifier */
+	public int getIndex() {
+		return index;
+	}
+
+	/** @return whether the level was won */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/** @return number of simulated steps */
+	public int getSteps() {
+		return steps;
+	}
+
+	/** @return simulated time, in seconds */
+	public float getTime() {
+		return time;
+	}
+
+	/** @return final score */
+	public int getScore() {
+		return score;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("#%d %s after %d steps (%.2fs), score %d", index, finished ? "finished" : "unfinished", steps, time, score);
+	}
+
+}
@@ -0,0 +1,113 @@
+package ch.epfl.cs107.play.batch;
+
+import ch.epfl.cs107.play.HeadlessProgram;
+import ch.epfl.cs107.play.game.actor.bike.BikeGame;
+import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.window.headless.HeadlessWindow;
+
+/**
+ * Single headless game, stepped with a fixed time step.
+ * A session owns its own world and shares no state, hence distinct sessions can be stepped concurrently.
+ * A given session must not be stepped by several threads at once.
+ */
+public class Session {
+
+	private final int index;
+	private final FileSystem fileSystem;
+	private final int maxSteps;
+	private final float deltaTime;
+	private final HeadlessProgram.Script script;
+
+	// Game state, created on begin
+	private BikeGame game;
+	private HeadlessWindow window;
+	private int step;
+	private boolean running;
+	private boolean done;
+
+	/**
+	 * Creates a new session.
+	 * @param index identifier, reported in result
+	 * @param fileSystem file system to use, not null
+	 * @param maxSteps maximal number of steps, non-negative
+	 * @param deltaTime fixed time step, in seconds, non-negative
+	 * @param script scripted input, may be null
+	 */
+	public Session(int index, FileSystem fileSystem, int maxSteps, float deltaTime, HeadlessProgram.Script script) {
+		if (fileSystem == null)
+			throw new NullPointerException();
+		if (maxSteps < 0 || deltaTime < 0.0f)
+			throw new IllegalArgumentException();
+		this.index = index;
+		this.fileSystem = fileSystem;
+		this.maxSteps = maxSteps;
+		this.deltaTime = deltaTime;
+		this.script = script;
+	}
+
+	/** Initialises game state, does nothing if already started. */
+	public void begin() {
+		if (game != null)
+			return;
+		window = new HeadlessWindow();
+		game = new BikeGame();
+		running = game.begin(window, fileSystem);
+		done = !running;
+	}
+
+	/**
+	 * Simulates a single step, does nothing if the session is done.
+	 * @return whether the session is still running after this step
+	 */
+	public boolean step() {
+		if (game == null)
+			begin();
+		if (done)
+			return false;
+
+		// Prepare input, then let the game do its stuff
+		if (script != null)
+			script.apply(step, window);
+		window.update();
+		game.update(deltaTime);
+		++step;
+
+		// Stop on victory, or when the step budget is exhausted
+		if (game.isWon() || game.isOver() || step >= maxSteps || window.isCloseRequested())
+			end();
+		return !done;
+	}
+
+	/**
+	 * Steps until completion.
+	 * @return final result, not null
+	 */
+	public Result run() {
+		begin();
+		while (step())
+			;
+		return getResult();
+	}
+
+	/** Cleans up things, called even if initialisation failed. */
+	public void end() {
+		if (game != null && running) {
+			game.end();
+			running = false;
+		}
+		done = true;
+	}
+
+	/** @return whether this session is completed */
+	public boolean isDone() {
+		return done;
+	}
+
+	/** @return current result, not null */
+	public Result getResult() {
+		boolean finished = game != null && game.isWon();
+		int score = game == null ? 0 : game.getScore();
+		return new Result(index, finished, step, step * deltaTime, score);
+	}
+
+}
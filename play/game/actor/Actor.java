@@ -1,5 +1,7 @@
 package ch.epfl.cs107.play.game.actor;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.math.Positionable;
 
 public interface Actor extends Positionable, Graphics {
@@ -12,6 +14,14 @@ public interface Actor extends Positionable, Graphics {
 		// By default, actors have nothing to update
 	}
 	
+	/**
+	 * Adds the names of the images an Actor may draw, so that they can be loaded ahead
+	 * @param names the collection to fill, not null
+	 */
+	public default void collectImages(Collection<String> names) {
+		// By default, actors have no image
+	}
+	
 	/**
 	 * Destroys an Actor, by default
 	 */
@@ -1,8 +1,12 @@
 package ch.epfl.cs107.play.game.actor;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import ch.epfl.cs107.play.game.Game;
 import ch.epfl.cs107.play.game.actor.general.Level;
 import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Entity;
 import ch.epfl.cs107.play.math.EntityBuilder;
 import ch.epfl.cs107.play.math.Positionable;
@@ -12,6 +16,8 @@ import ch.epfl.cs107.play.math.Transform;
 import ch.epfl.cs107.play.math.Vector;
 import ch.epfl.cs107.play.math.WheelConstraintBuilder;
 import ch.epfl.cs107.play.math.World;
+import ch.epfl.cs107.play.math.WorldSnapshot;
+import ch.epfl.cs107.play.math.WorldSettings;
 import ch.epfl.cs107.play.window.Canvas;
 import ch.epfl.cs107.play.window.Keyboard;
 import ch.epfl.cs107.play.window.Window;
@@ -38,6 +44,10 @@ public abstract class ActorGame implements Game{
     private static final float VIEW_INTERPOLATION_RATIO_PER_SECOND = 0.1f;
     private static final float VIEW_SCALE = 15.0f;
     
+    // Visible region in view coordinates, whatever the aspect ratio
+    private static final Box VIEW_BOUNDS = new Box(-1.0f, -1.0f, 1.0f, 1.0f);
+    private Box viewport;
+    
 	/**
      * Initializes game state
      * @param window context to use, not null
@@ -58,7 +68,7 @@ public abstract class ActorGame implements Game{
         this.fileSystem = fileSystem;
         
         // Create physics engine
-        world = new World();
+        world = new World(createWorldSettings());
         
         // Note that you should use meters as unit
         world.setGravity(new Vector(0.0f, -9.81f));
@@ -71,6 +81,14 @@ public abstract class ActorGame implements Game{
         return true;
     }
     
+    /**
+     * Defines simulation parameters of the physics engine, called once by begin.
+     * @return new settings, not null
+     */
+    protected WorldSettings createWorldSettings() {
+        return new WorldSettings();
+    }
+    
     /**
      * Simulates a single time step.
      * @param deltaTime elapsed time since last update, in seconds
@@ -95,9 +113,10 @@ public abstract class ActorGame implements Game{
 		// Compute new viewport
 		Transform viewTransform = Transform.I.scaled(VIEW_SCALE).translated(viewCenter);
 		window.setRelativeTransform(viewTransform);
+		viewport = VIEW_BOUNDS.transformed(window.getTransform());
 		
-		// Draws the current Level in the window
-		level.draw(window);
+		// Draws the visible part of the current Level in the window
+		level.draw(window, viewport);
 		
     }
     
@@ -177,7 +196,37 @@ public abstract class ActorGame implements Game{
     		level.removeActor(actor);
     }
     
+    /**
+     * Records the state of the moving entities, to rewind the world later
+     * @param snapshot the snapshot to overwrite, not null
+     */
+    public void captureSnapshot(WorldSnapshot snapshot) {
+    		world.capture(snapshot);
+    }
+    
+    /**
+     * Rewinds the moving entities to a recorded state, without recreating them
+     * @param snapshot a snapshot captured from this game, not null
+     */
+    public void restoreSnapshot(WorldSnapshot snapshot) {
+    		world.restore(snapshot);
+    }
+    
     /** 
+     * @return the visible region of the world, as of last update, may be null
+     */
+    public Box getViewport() {
+    		return viewport;
+    }
+    
+    /**
+     * @return the center of the view, in world coordinates, not null once begun
+     */
+    public Vector getViewCenter() {
+    		return viewCenter;
+    }
+
+    /**
    	 * @return the  access to the keyboard
    	 */
     public Keyboard getKeyboard(){ 
@@ -208,6 +257,11 @@ public abstract class ActorGame implements Game{
     		}
     		this.level = level;
     		level.createAllActors(this);
+    		
+    		// Start loading the images of the new actors
+    		Set<String> names = new HashSet<String>();
+    		level.collectImages(names);
+    		window.preload(names);
     }
     
 	/** 
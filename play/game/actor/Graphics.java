@@ -1,5 +1,6 @@
 package ch.epfl.cs107.play.game.actor;
 
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.window.Canvas;
 
 /**
@@ -13,4 +14,14 @@ public interface Graphics {
      */
     public void draw(Canvas canvas);
     
+    /**
+     * Checks whether drawing may produce something in specified region, used to skip invisible elements.
+     * By default, it is assumed to be always visible.
+     * @param viewport visible region, in world coordinates, not null
+     * @return false if drawing can be safely skipped
+     */
+    public default boolean isVisible(Box viewport) {
+        return true;
+    }
+    
 }
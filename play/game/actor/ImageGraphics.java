@@ -1,6 +1,7 @@
 package ch.epfl.cs107.play.game.actor;
 
 import ch.epfl.cs107.play.math.Attachable;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Node;
 import ch.epfl.cs107.play.math.Transform;
 import ch.epfl.cs107.play.math.Vector;
@@ -18,6 +19,7 @@ public class ImageGraphics extends Node implements  Graphics {
     private Vector anchor;
     private float alpha;
     private float depth;
+    private final RenderHandle handle;
 
     /**
      * Creates a new image graphics.
@@ -35,6 +37,7 @@ public class ImageGraphics extends Node implements  Graphics {
         this.anchor = anchor;
         this.alpha = alpha;
         this.depth = depth;
+        handle = new RenderHandle(this::record);
     }
 
     /**
@@ -64,6 +67,7 @@ public class ImageGraphics extends Node implements  Graphics {
      */
     public void setName(String name) {
         this.name = name;
+        handle.invalidate();
     }
 
     /** @return image name, may be null */
@@ -77,6 +81,7 @@ public class ImageGraphics extends Node implements  Graphics {
      */
     public void setWidth(float width) {
         this.width = width;
+        handle.invalidate();
     }
 
     /** @return actual image width, before transformation */
@@ -90,6 +95,7 @@ public class ImageGraphics extends Node implements  Graphics {
      */
     public void setHeight(float height) {
         this.height = height;
+        handle.invalidate();
     }
 
     /** @return actual image height, before transformation */
@@ -103,6 +109,7 @@ public class ImageGraphics extends Node implements  Graphics {
      */
     public void setAnchor(Vector anchor) {
         this.anchor = anchor;
+        handle.invalidate();
     }
 
     /** @return image anchor, not null */
@@ -116,6 +123,7 @@ public class ImageGraphics extends Node implements  Graphics {
      */
     public void setAlpha(float alpha) {
         this.alpha = alpha;
+        handle.invalidate();
     }
 
     /** @return transparency, between 0 (invisible) and 1 (opaque) */
@@ -129,6 +137,7 @@ public class ImageGraphics extends Node implements  Graphics {
      */
     public void setDepth(float depth) {
         this.depth = depth;
+        handle.invalidate();
     }
 
     /** @return render priority, lower-values drawn first */
@@ -136,12 +145,26 @@ public class ImageGraphics extends Node implements  Graphics {
         return depth;
     }
     
+    @Override
+    public boolean isVisible(Box viewport) {
+        if (name == null)
+            return false;
+        return viewport.intersects(-anchor.x * width, -anchor.y * height, (1.0f - anchor.x) * width, (1.0f - anchor.y) * height, getRenderTransform(), 0.0f);
+    }
+    
     @Override
     public void draw(Canvas canvas) {
+        if (name == null)
+            return;
+        handle.draw(canvas, getRenderTransform());
+    }
+    
+    // Issue drawing commands, using last transform
+    private void record(Canvas canvas) {
         if (name == null)
             return;
         Image image = canvas.getImage(name);
-        Transform transform = Transform.I.translated(-anchor.x, -anchor.y).scaled(width, height).transformed(getTransform());
+        Transform transform = Transform.I.translated(-anchor.x, -anchor.y).scaled(width, height).transformed(handle.getTransform());
         canvas.drawImage(image, transform, alpha, depth);
     }
 
@@ -0,0 +1,85 @@
+package ch.epfl.cs107.play.game.actor;
+
+import ch.epfl.cs107.play.math.Transform;
+import ch.epfl.cs107.play.window.Canvas;
+import ch.epfl.cs107.play.window.RenderNode;
+import java.util.function.Consumer;
+
+/**
+ * Keeps track of the retained render node of a graphics, falling back to immediate drawing if unsupported.
+ */
+final class RenderHandle {
+
+    private final Consumer<Canvas> source;
+    private Canvas canvas;
+    private RenderNode node;
+    private Transform transform;
+    private boolean dirty;
+    private boolean fixed;
+
+    /**
+     * Creates a new handle.
+     * @param source callback issuing drawing commands, using transform provided by this handle, not null
+     */
+    RenderHandle(Consumer<Canvas> source) {
+        this.source = source;
+        dirty = true;
+    }
+
+    /** Requests drawing commands to be recorded again, to be called when appearance changed. */
+    void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Sets whether associated graphics is expected to stay the same for many frames.
+     * @param fixed new state
+     */
+    void setFixed(boolean fixed) {
+        if (this.fixed != fixed) {
+            this.fixed = fixed;
+            if (node != null)
+                node.release();
+        }
+    }
+
+    /** @return whether associated graphics is expected to stay the same for many frames */
+    boolean isFixed() {
+        return fixed;
+    }
+
+    /** @return transform to use while recording, not null */
+    Transform getTransform() {
+        return transform;
+    }
+
+    /**
+     * Draws associated graphics, recording it again only if needed.
+     * @param canvas target, not null
+     * @param transform current transform, not null
+     */
+    void draw(Canvas canvas, Transform transform) {
+
+        // Acquire a node from the canvas, if needed
+        if (canvas != this.canvas || node == null || node.isReleased()) {
+            this.canvas = canvas;
+            node = canvas.createNode(source, fixed);
+            dirty = true;
+        }
+
+        // Check whether something changed since last record
+        if (dirty || !transform.equals(this.transform)) {
+            this.transform = transform;
+            dirty = false;
+            if (node != null)
+                node.invalidate();
+        }
+
+        // Keep node alive, or draw immediately
+        if (node != null)
+            node.draw();
+        else
+            source.accept(canvas);
+    }
+
+}
@@ -2,6 +2,7 @@ package ch.epfl.cs107.play.game.actor;
 
 import java.awt.Color;
 
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Node;
 import ch.epfl.cs107.play.math.Shape;
 import ch.epfl.cs107.play.window.Canvas;
@@ -17,6 +18,7 @@ public class ShapeGraphics extends Node implements Graphics {
 	private float thickness;
 	private float alpha;
 	private float depth;
+	private final RenderHandle handle;
 
     /**
      * Creates a new shape graphics.
@@ -34,6 +36,7 @@ public class ShapeGraphics extends Node implements Graphics {
         this.thickness = thickness;
         this.alpha = alpha;
         this.depth = depth;
+        handle = new RenderHandle(this::record);
     }
 
     /**
@@ -53,6 +56,7 @@ public class ShapeGraphics extends Node implements Graphics {
      */
     public void setShape(Shape shape) {
         this.shape = shape;
+        handle.invalidate();
     }
     
     /** @return current shape, may be null */
@@ -66,6 +70,7 @@ public class ShapeGraphics extends Node implements Graphics {
      */
 	public void setFillColor(Color fillColor) {
 		this.fillColor = fillColor;
+		handle.invalidate();
 	}
     
     /** @return fill color, may be null */
@@ -79,6 +84,7 @@ public class ShapeGraphics extends Node implements Graphics {
      */
 	public void setOutlineColor(Color outlineColor) {
 		this.outlineColor = outlineColor;
+		handle.invalidate();
 	}
 
     /** @return outline color, may be null */
@@ -92,6 +98,7 @@ public class ShapeGraphics extends Node implements Graphics {
      */
     public void setThickness(float thickness) {
 		this.thickness = thickness;
+		handle.invalidate();
 	}
     
     /** @return outline thickness */
@@ -105,6 +112,7 @@ public class ShapeGraphics extends Node implements Graphics {
      */
     public void setAlpha(float alpha) {
         this.alpha = alpha;
+        handle.invalidate();
     }
 
     /** @return transparency, between 0 (invisible) and 1 (opaque) */
@@ -118,6 +126,7 @@ public class ShapeGraphics extends Node implements Graphics {
      */
     public void setDepth(float depth) {
         this.depth = depth;
+        handle.invalidate();
     }
 
     /** @return render priority, lower-values drawn first */
@@ -125,9 +134,32 @@ public class ShapeGraphics extends Node implements Graphics {
         return depth;
     }
     
+    /**
+     * Sets whether this graphics never moves nor changes, allowing the canvas to pre-render it.
+     * @param fixed new state
+     */
+    public void setFixed(boolean fixed) {
+        handle.setFixed(fixed);
+    }
+
+    /** @return whether this graphics never moves nor changes */
+    public boolean isFixed() {
+        return handle.isFixed();
+    }
+    
+    @Override
+    public boolean isVisible(Box viewport) {
+        return shape != null && viewport.intersects(shape.getBounds(), getRenderTransform(), 0.5f * thickness);
+    }
+    
     @Override
 	public void draw(Canvas canvas) {
-		canvas.drawShape(shape, getTransform(), fillColor, outlineColor, thickness, alpha, depth);
+		handle.draw(canvas, getRenderTransform());
 	}
     
+    // Issue drawing commands, using last transform
+    private void record(Canvas canvas) {
+		canvas.drawShape(shape, handle.getTransform(), fillColor, outlineColor, thickness, alpha, depth);
+    }
+    
 }
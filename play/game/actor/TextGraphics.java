@@ -22,6 +22,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
     private Vector anchor;
 	private float alpha;
 	private float depth;
+	private final RenderHandle handle;
 
     /**
      * Creates a new text graphics.
@@ -49,6 +50,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
         this.anchor = anchor;
         this.alpha = alpha;
         this.depth = depth;
+        handle = new RenderHandle(this::record);
     }
 
     /**
@@ -84,6 +86,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
         if (text == null)
             throw new NullPointerException();
         this.text = text;
+        handle.invalidate();
     }
 
     /** @return text content, not null */
@@ -97,6 +100,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setFontSize(float fontSize) {
         this.fontSize = fontSize;
+        handle.invalidate();
     }
 
     /** @return font size */
@@ -110,6 +114,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
 	public void setFillColor(Color fillColor) {
 		this.fillColor = fillColor;
+		handle.invalidate();
 	}
     
     /** @return fill color, may be null */
@@ -123,6 +128,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
 	public void setOutlineColor(Color outlineColor) {
 		this.outlineColor = outlineColor;
+		handle.invalidate();
 	}
 
     /** @return outline color, may be null */
@@ -136,6 +142,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setThickness(float thickness) {
 		this.thickness = thickness;
+		handle.invalidate();
 	}
     
     /** @return outline thickness */
@@ -149,6 +156,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setBold(boolean bold) {
         this.bold = bold;
+        handle.invalidate();
     }
 
     /** @return whether to use bold font */
@@ -162,6 +170,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setItalics(boolean italics) {
         this.italics = italics;
+        handle.invalidate();
     }
 
     /** @return whether to use italics font */
@@ -175,6 +184,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setAnchor(Vector anchor) {
         this.anchor = anchor;
+        handle.invalidate();
     }
 
     /** @return text anchor */
@@ -188,6 +198,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setAlpha(float alpha) {
         this.alpha = alpha;
+        handle.invalidate();
     }
 
     /** @return transparency, between 0 (invisible) and 1 (opaque) */
@@ -201,6 +212,7 @@ public class TextGraphics extends Node implements Attachable, Graphics {
      */
     public void setDepth(float depth) {
         this.depth = depth;
+        handle.invalidate();
     }
 
     /** @return render priority, lower-values drawn first */
@@ -210,7 +222,12 @@ public class TextGraphics extends Node implements Attachable, Graphics {
 
 	@Override
 	public void draw(Canvas canvas) {
-        canvas.drawText(text, fontSize, getTransform(), fillColor, outlineColor, thickness, bold, italics, anchor, alpha, depth);
+        handle.draw(canvas, getRenderTransform());
 	}
+    
+    // Issue drawing commands, using last transform
+    private void record(Canvas canvas) {
+        canvas.drawText(text, fontSize, handle.getTransform(), fillColor, outlineColor, thickness, bold, italics, anchor, alpha, depth);
+    }
 
 }
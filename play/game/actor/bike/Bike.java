@@ -33,7 +33,7 @@ public class Bike extends GameEntity implements Actor {
 	// Categories and masks for the contact listener
 	private final static short CATEGORY_BIKER = 0x0001;
 	private final static short MASK_BIKER = -1;
-	private final static short CATEGORY_FINISH = 0x0008;
+	private final static short MASK_HIT = ~(Coin.CATEGORY_COIN | Finish.CATEGORY_FINISH);
 
 	// Indicates the bike orientation : true if the bike is facing right
 	private boolean right;
@@ -52,19 +52,14 @@ public class Bike extends GameEntity implements Actor {
 	// Graphic part for the hitbox
 	private ShapeGraphics hitboxGraphics;
 
-	// Create a new contact listener for the hitbox
+	// Create a new contact listener for the hitbox, coins and finish line are never reported
 	ContactListener listener = new ContactListener() { 
 		
 		@Override
 		public void beginContact(Contact contact) { 
 			
-			// Contact is with a finish line
-			if(contact.getOther().isGhost() && contact.getOther().getCollisionSignature() == CATEGORY_FINISH) {
-				win = true;	
-			// Contact is with a ghost entity
-			} else if (contact.getOther().isGhost()) {
-				return ;
-			} else {
+			// Contact is with a non-ghost entity
+			if (!contact.getOther().isGhost()) {
 				hit = true;
 			}
 		}
@@ -74,6 +69,19 @@ public class Bike extends GameEntity implements Actor {
 		
 	};
 	
+	// Create a new contact listener for the finish line only
+	ContactListener finishListener = new ContactListener() { 
+		
+		@Override
+		public void beginContact(Contact contact) { 
+			win = true;
+		}
+
+		@Override
+		public void endContact(Contact contact) {}
+		
+	};
+	
 	
 	/**
      * Creates a new bike.
@@ -100,8 +108,9 @@ public class Bike extends GameEntity implements Actor {
 		hitboxGraphics = new ShapeGraphics(polygon, Color.RED, Color.RED, 0.0f, ALPHA_HITBOX, 0.0f);
 		hitboxGraphics.setParent(this.getEntity());
 		
-		// Adds the contact listener to the hitbox
-		this.getEntity().addContactListener(listener);
+		// Adds the contact listeners to the hitbox
+		this.getEntity().addContactListener(listener, MASK_HIT);
+		this.getEntity().addContactListener(finishListener, Finish.CATEGORY_FINISH);
 		
 		// Creation of both wheels by their own constructor 
 		leftWheel = new Wheel(game, new Vector(position.x - 1.0f, position.y + 0.f), WHEEL_RADIUS, "explosive.11.png");
@@ -134,9 +143,9 @@ public class Bike extends GameEntity implements Actor {
 			return;
 		}
 
-		// A collision with a scenery entity leads to the removal of the bike
+		// A collision with a scenery entity disables the bike, until the game respawns or removes it
 		if(hit) {
-			this.getOwner().removeActor(this);
+			return;
 		}
 
 		/** Reverse the bike orientation if the key SPACE is pressed
@@ -192,6 +201,15 @@ public class Bike extends GameEntity implements Actor {
 		return this.getEntity().getTransform();
 	}
 	
+	
+	/** 
+	 * @return the interpolated transform of the bike, used for drawing
+	 */
+	@Override
+	public Transform getRenderTransform() {
+		return this.getEntity().getRenderTransform();
+	}
+	
 
 	/** 
 	 * @return the velocity of the bike
@@ -219,7 +237,7 @@ public class Bike extends GameEntity implements Actor {
      */
 	public void drawBiker(Canvas canvas) {
 		// The transform of the bike in absolute coordinates
-		Transform t = this.getTransform();
+		Transform t = this.getRenderTransform();
 		
 		// Draws the biker's head as a circle with HEAD_RADIUS as radius
 		Circle head = new Circle(HEAD_RADIUS, getHeadLocation());
@@ -388,6 +406,14 @@ public class Bike extends GameEntity implements Actor {
 	}
 	
 	
+	/** 
+	 * @return whether the bike is facing right
+	 */
+	boolean isRight() {
+		return right;
+	}
+	
+	
 	/** 
 	 * Sets the boolean hit, attribute of the bike
 	 * @param hit, the new boolean value to assign
@@ -397,6 +423,25 @@ public class Bike extends GameEntity implements Actor {
 	}	
 	
 
+	/**
+	 * Respawns the bike by rewinding the world to a checkpoint, instead of building a new bike.
+	 * @param checkpoint the last checkpoint of the level, may be null
+	 * @return whether the bike was respawned, false if the checkpoint was not reached or the bike was removed
+	 */
+	public boolean respawn(Checkpoint checkpoint) {
+		if(checkpoint == null || !this.getEntity().isAlive() || !checkpoint.restore()) {
+			return false;
+		}
+		
+		// The state of the biker is not part of the world
+		right = checkpoint.isBikeRight();
+		hit = false;
+		win = false;
+		breaks = true;
+		return true;
+	}
+	
+	
 	/** 
 	 * Destroys the associated entities
 	 */
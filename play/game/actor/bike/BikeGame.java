@@ -3,11 +3,13 @@ package ch.epfl.cs107.play.game.actor.bike;
 import java.awt.Color;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.ImageGraphics;
 import ch.epfl.cs107.play.game.actor.TextGraphics;
 import ch.epfl.cs107.play.game.actor.bike_levels.BasicBikeLevel;
+import ch.epfl.cs107.play.game.actor.bike_levels.EndlessBikeLevel;
 import ch.epfl.cs107.play.game.actor.bike_levels.GravityWellBikeLevel;
 import ch.epfl.cs107.play.game.actor.bike_levels.JumpBikeLevel;
 import ch.epfl.cs107.play.game.actor.bike_levels.PendulumBikeLevel;
@@ -72,6 +74,7 @@ public class BikeGame extends ActorGame {
 		this.levels.add(new GravityWellBikeLevel());	
 		this.levels.add(new RockerBikeLevel());
 		this.levels.add(new PendulumBikeLevel());
+		this.levels.add(new EndlessBikeLevel());
 		
 		// Initialization of the attributes
 		scoreCount = 0;
@@ -82,6 +85,9 @@ public class BikeGame extends ActorGame {
 		this.setLevel(levels.get(levelCount));
 		this.myLevel = (BikeLevel)getLevel();
 		
+		// Start loading HUD images
+		window.preload(Arrays.asList("heart.full.png", "heart.half.png", "heart.empty.png", "star.gold.png", "star.silver.png"));
+		
 		// Initialization of the message
 		message.setParent(window); 
 		message.setRelativeTransform(Transform.I.translated(0.0f, -1.0f));
@@ -133,6 +139,7 @@ public class BikeGame extends ActorGame {
 				myLevel.resetBike();
 			} else if (this.heart.getName() == "heart.half.png"){
 				this.loseHalfLife();
+				myLevel.removeActor(myLevel.getBike());
 			}	
 		
 		// When the current Level is won, we set the stars
@@ -242,6 +249,30 @@ public class BikeGame extends ActorGame {
 	}
 	
 	
+	/**
+	 * @return the current score in the level
+	 */
+	public int getScore() {
+		return scoreCount;
+	}
+	
+	
+	/**
+	 * @return true if the current level is won
+	 */
+	public boolean isWon() {
+		return isWon;
+	}
+	
+	
+	/**
+	 * @return true if the last level was completed
+	 */
+	public boolean isOver() {
+		return end;
+	}
+	
+	
 	/**
 	 * Updates the score of the player in the level
 	 * @param i an integer added to the score
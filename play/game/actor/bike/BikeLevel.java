@@ -15,9 +15,24 @@ public abstract class BikeLevel extends Level{
 	// Indicates if the BikeLevel is won
 	private boolean won;
 	
+	// The last checkpoint of the BikeLevel, may be null
+	private Checkpoint checkpoint;
+	
 
-	// All BikeLevel must implement a method to reset the bike
-	public abstract void resetBike();
+	// All BikeLevel must implement a method to build a new bike, used when it cannot be respawned at the checkpoint
+	protected abstract void rebuildBike();
+	
+	
+	/**
+	 * Reset only the bike.
+	 * Rewinds to the reached checkpoint, which is faster than building a new bike.
+	 */
+	public void resetBike() {
+		if(myBike != null && myBike.respawn(checkpoint)) {
+			return;
+		}
+		this.rebuildBike();
+	}
 	
 	/**
 	 * Return myBike.
@@ -53,6 +68,26 @@ public abstract class BikeLevel extends Level{
 	}
 
 	
+	/**
+	 * Return checkpoint.
+	 */
+	protected Checkpoint getCheckpoint() {
+		return checkpoint;
+	}
+	
+	
+	/**
+	 * Set checkpoint.
+	 * @param checkpoint, the new checkpoint, may be null
+	 */
+	protected void setCheckpoint(Checkpoint checkpoint) {
+		this.checkpoint = checkpoint;
+		if(checkpoint != null) {
+			checkpoint.setLevel(this);
+		}
+	}
+
+	
 	/**
 	 * Return myBike's position.
 	 */
@@ -100,4 +135,13 @@ public abstract class BikeLevel extends Level{
 	public void resetPayLoad() {
 		this.resetBike();	
 	}
+	
+	/**
+	 * Destroy the level, and forget its checkpoint.
+	 */
+	@Override
+	public void destroy() {
+		super.destroy();
+		checkpoint = null;
+	}
 }
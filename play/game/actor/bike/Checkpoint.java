@@ -1,9 +1,12 @@
 package ch.epfl.cs107.play.game.actor.bike;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.general.Trigger;
 import ch.epfl.cs107.play.math.Vector;
+import ch.epfl.cs107.play.math.WorldSnapshot;
 
 public class Checkpoint extends Trigger implements Actor{
 	
@@ -14,6 +17,16 @@ public class Checkpoint extends Trigger implements Actor{
 	// The detection radius for
 	private final static float DETECTION_RADIUS = 2.3f;
 	
+	// Image shown once the checkpoint is reached
+	private final static String REACHED_IMAGE = "flag.green.png";
+	
+	// State of the world when the bike first reached the checkpoint
+	private final WorldSnapshot snapshot = new WorldSnapshot();
+	
+	// The level owning the checkpoint, and the bike orientation when the snapshot was captured
+	private BikeLevel level;
+	private boolean bikeRight = true;
+	
 
 	/**
 	 * Creates a checkpoint.
@@ -33,8 +46,56 @@ public class Checkpoint extends Trigger implements Actor{
 	public void update(float deltaTime) {
 		// Turns green if it is touched by the bike
 		if(super.getTouch()) {
-			super.setImage("flag.green.png");
+			super.setImage(REACHED_IMAGE);
+			if(!snapshot.isCaptured()) {
+				this.getOwner().captureSnapshot(snapshot);
+				
+				// The state of the biker is not part of the world
+				Bike bike = (level != null) ? level.getBike() : null;
+				bikeRight = (bike == null) || bike.isRight();
+			}
+		}
+	}
+	
+	
+	/**
+	 * Adds the images of the checkpoint, before and after being reached
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		super.collectImages(names);
+		names.add(REACHED_IMAGE);
+	}
+	
+	
+	/**
+	 * Sets the level whose bike orientation is recorded with the snapshot.
+	 * @param level the owner of the checkpoint, may be null
+	 */
+	void setLevel(BikeLevel level) {
+		this.level = level;
+	}
+	
+	
+	/**
+	 * @return whether the bike was facing right when it first reached the checkpoint
+	 */
+	boolean isBikeRight() {
+		return bikeRight;
+	}
+	
+	
+	/**
+	 * Rewinds the world to the moment the bike first reached the checkpoint.
+	 * @return whether the checkpoint was reached, otherwise nothing is done
+	 */
+	public boolean restore() {
+		if(!snapshot.isCaptured()) {
+			return false;
 		}
+		this.getOwner().restoreSnapshot(snapshot);
+		return true;
 	}
 
 }
@@ -7,7 +7,7 @@ import ch.epfl.cs107.play.math.Vector;
 public class Coin extends Pickup{
 	
 	// Categories and masks for the contact listener
-	private final static short CATEGORY_COIN = 0x4;
+	final static short CATEGORY_COIN = 0x0004;
 	private final static short MASK_COIN = 0b011;	
 	
 	// Used to stock the coin's associated reward
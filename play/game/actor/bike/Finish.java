@@ -8,7 +8,7 @@ import ch.epfl.cs107.play.math.Vector;
 public class Finish extends Trigger implements Actor{
 	
 	// Categories and masks for the contact listener
-	private final static short CATEGORY_FINISH = 0x0008;
+	final static short CATEGORY_FINISH = 0x0008;
 	private final static short MASK_FINISH = 0b001;
 	
 	// The detection radius for
@@ -17,7 +17,6 @@ public class BasicBikeLevel extends BikeLevel {
 	// Actors used with contact listener
 	private Bike myBike;
 	private Finish finish; 
-	private Checkpoint check;
 	
 	// Initial position of myBike
 	private Vector initialPosition = new Vector(-15.f, 8.0f);
@@ -58,7 +57,7 @@ public class BasicBikeLevel extends BikeLevel {
 										650.0f, -100	));
 		
 		// Adding a checkpoint
-		check = new Checkpoint(game, new Vector(16.f, 3.0f));
+		this.setCheckpoint(new Checkpoint(game, new Vector(16.f, 3.0f)));
 		
 		//Adding a finish line
 		finish = new Finish(game, new Vector(120.0f, -9.3f));
@@ -85,6 +84,7 @@ public class BasicBikeLevel extends BikeLevel {
 	public void update(float deltaTime) {
 		super.update(deltaTime);
 		
+		Checkpoint check = this.getCheckpoint();
 		if(finish != null && finish.getTouch()) {
 			this.setWon(true);
 		}else if(check != null && check.getTouch()) {
@@ -106,10 +106,10 @@ public class BasicBikeLevel extends BikeLevel {
 
 	
 	/**
-	 * Reset only the bike.
+	 * Build a new bike at the respawn position.
 	 */
 	@Override
-	public void resetBike() {
+	protected void rebuildBike() {
 		this.removeActor(myBike);
 		myBike = new Bike(game, this.getBikePosition(), true);
 		this.setBike(myBike);
@@ -0,0 +1,232 @@
+package ch.epfl.cs107.play.game.actor.bike_levels;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import ch.epfl.cs107.play.game.actor.Actor;
+import ch.epfl.cs107.play.game.actor.ActorGame;
+import ch.epfl.cs107.play.game.actor.bike.Bike;
+import ch.epfl.cs107.play.game.actor.bike.BikeLevel;
+import ch.epfl.cs107.play.game.actor.bike.Coin;
+import ch.epfl.cs107.play.game.actor.bike.Finish;
+import ch.epfl.cs107.play.game.actor.general.ChunkGenerator;
+import ch.epfl.cs107.play.game.actor.general.ChunkStreamer;
+import ch.epfl.cs107.play.game.actor.general.Terrain;
+import ch.epfl.cs107.play.math.Polyline;
+import ch.epfl.cs107.play.math.Vector;
+
+/**
+ * Long rolling level, whose terrain and coins only exist around the bike.
+ */
+public class EndlessBikeLevel extends BikeLevel {
+
+	// Level layout, in meters
+	private static final float LENGTH = 5000.0f;
+	private static final float CHUNK_SIZE = 25.0f;
+	private static final float CHECKPOINT_SPACING = 250.0f;
+	private static final float BOTTOM = -50.0f;
+
+	// Distance around the view and the bike in which chunks must exist
+	private static final float STREAM_DISTANCE = 50.0f;
+
+	// Content of a chunk, prepared off the game thread
+	private static class Section {
+
+		private int index;
+		private Polyline ground;
+		private Vector coin;
+		private Vector finish;
+
+	}
+
+	// Actors used with contact listener
+	private Bike myBike;
+	private Finish finish;
+
+	// Coins of loaded chunks and collected coins, both indexed by chunk, as there is at most one coin per chunk
+	private final Map<Integer, Coin> coins = new HashMap<Integer, Coin>();
+	private final BitSet collected = new BitSet();
+
+	// Initial position of myBike
+	private Vector initialPosition = new Vector(0.0f, 3.0f);
+
+	// Used to stock the ActorGame owner of the world
+	private ActorGame game;
+
+	// Creates and destroys chunks around the view
+	private ChunkStreamer<Section> streamer;
+
+	// Define chunk content
+	private final ChunkGenerator<Section> generator = new ChunkGenerator<Section>() {
+
+		@Override
+		public Section prepare(int index, float minX, float maxX) {
+			if (maxX < -CHUNK_SIZE || minX > LENGTH + CHUNK_SIZE) {
+				return null;
+			}
+			Section section = new Section();
+			section.index = index;
+
+			// Surface with one point per meter, ending where the next chunk starts, whose neighbours avoid bumps at seams
+			List<Vector> points = new ArrayList<Vector>();
+			for (float x = minX; x < maxX; x += 1.0f) {
+				points.add(new Vector(x, height(x)));
+			}
+			points.add(new Vector(maxX, height(maxX)));
+			section.ground = new Polyline(new Vector(minX - 1.0f, height(minX - 1.0f)), points, new Vector(maxX + 1.0f, height(maxX + 1.0f)));
+
+			// One coin per chunk, and the finish line in the last one
+			float middle = 0.5f * (minX + maxX);
+			if (index > 0 && middle < LENGTH) {
+				section.coin = new Vector(middle, height(middle) + 1.5f);
+			}
+			if (minX <= LENGTH && LENGTH < maxX) {
+				section.finish = new Vector(LENGTH, height(LENGTH));
+			}
+			return section;
+		}
+
+		@Override
+		public void build(ActorGame game, Section section, List<Actor> actors) {
+			actors.add(new Terrain(game, section.ground, BOTTOM, 30.0f, 0.1f, Color.BLACK));
+			if (section.coin != null && !collected.get(section.index)) {
+				Coin coin = new Coin(game, section.coin, "coin.bronze.png", 100);
+				coins.put(section.index, coin);
+				actors.add(coin);
+			}
+			if (section.finish != null) {
+				finish = new Finish(game, section.finish);
+				actors.add(finish);
+			}
+		}
+
+		@Override
+		public void destroy(Section section) {
+			coins.remove(section.index);
+			if (section.finish != null) {
+				finish = null;
+			}
+		}
+
+	};
+
+
+	/**
+	 * Creates all the actors around the start.
+	 * @param game the ActorGame owner of the world
+	 */
+	@Override
+	public void createAllActors(ActorGame game) {
+
+		// Initialize the attributes
+		this.game = game;
+		this.streamer = new ChunkStreamer<Section>(game, generator, CHUNK_SIZE);
+
+		// Adding the terrain around the start, then the bike
+		this.setBikePosition(initialPosition);
+		stream(initialPosition.x, initialPosition.x);
+		myBike = new Bike(game, this.getBikePosition(), true);
+		this.setBike(myBike);
+		game.setViewCandidate(myBike);
+
+		// Set the maximal score of the level
+		this.setScoreMax(100 * ((int) Math.ceil(LENGTH / CHUNK_SIZE) - 1));
+	}
+
+
+	/**
+	 * Updates the level.
+	 * @param deltaTime elapsed time since last update, in seconds
+	 */
+	@Override
+	public void update(float deltaTime) {
+
+		// Remember touched coins, which collect themselves during this update, so that they do not come back with their chunk
+		Iterator<Map.Entry<Integer, Coin>> iterator = coins.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Integer, Coin> entry = iterator.next();
+			if (entry.getValue().getTouch()) {
+				collected.set(entry.getKey());
+				iterator.remove();
+			}
+		}
+
+		// Keep chunks around both the view and the bike, which may be far apart after a respawn
+		float viewX = game.getViewCenter().x;
+		float bikeX = myBike != null ? myBike.getPosition().x : viewX;
+		stream(Math.min(viewX, bikeX), Math.max(viewX, bikeX));
+
+		super.update(deltaTime);
+
+		if (finish != null && finish.getTouch()) {
+			this.setWon(true);
+		} else if (myBike != null) {
+
+			// Move the respawn point along, as there are no checkpoint actors
+			float checkpoint = (float) Math.floor(bikeX / CHECKPOINT_SPACING) * CHECKPOINT_SPACING;
+			if (checkpoint > this.getBikePosition().x && checkpoint < LENGTH) {
+				this.setBikePosition(new Vector(checkpoint, height(checkpoint) + 3.0f));
+			}
+		}
+	}
+
+
+	/**
+	 * Reset the level.
+	 */
+	@Override
+	public void resetLevel() {
+		this.destroy();
+		this.setBike(null);
+		this.setWon(false);
+		createAllActors(game);
+	}
+
+
+	/**
+	 * Build a new bike at the respawn position.
+	 */
+	@Override
+	protected void rebuildBike() {
+		this.removeActor(myBike);
+		stream(this.getBikePosition().x, this.getBikePosition().x);
+		myBike = new Bike(game, this.getBikePosition(), true);
+		this.setBike(myBike);
+		game.setViewCandidate(myBike);
+	}
+
+	/**
+	 * Destroy the level.
+	 */
+	@Override
+	public void destroy() {
+		if (streamer != null) {
+			streamer.clear();
+		}
+		collected.clear();
+		super.destroy();
+		this.setBike(null);
+		this.setWon(false);
+	}
+
+
+	// Make sure that chunks exist around specified range
+	private void stream(float minX, float maxX) {
+		streamer.update(minX - STREAM_DISTANCE, maxX + STREAM_DISTANCE);
+	}
+
+	// Terrain height, flat at start then rolling hills, only depending on the abscissa so that chunks match
+	private static float height(float x) {
+		if (x <= 20.0f) {
+			return 0.0f;
+		}
+		float ramp = Math.min(1.0f, (x - 20.0f) / 100.0f);
+		return ramp * (3.0f * (float) Math.sin(x / 40.0f) + (float) Math.sin(x / 9.0f));
+	}
+
+}
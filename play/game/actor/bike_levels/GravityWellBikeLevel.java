@@ -17,7 +17,6 @@ public class GravityWellBikeLevel extends BikeLevel {
 	// Actors used with contact listener
 	private Bike myBike;
 	private Finish finish; 
-	private Checkpoint check;
 
 	// Initial position of myBike
 	private Vector initialPosition = new Vector(-4.0f, 0.0f);
@@ -62,7 +61,7 @@ public class GravityWellBikeLevel extends BikeLevel {
 										-120.0f, -100.0f	));
 		
 		// Adding a checkpoint
-		check = new Checkpoint(game, new Vector(-70.f, 17.0f));
+		this.setCheckpoint(new Checkpoint(game, new Vector(-70.f, 17.0f)));
 			
 		// Adding a finish line
 		finish = new Finish(game, new Vector(-125.0f, -35.0f));
@@ -92,6 +91,7 @@ public class GravityWellBikeLevel extends BikeLevel {
 	public void update(float deltaTime) {
 		super.update(deltaTime);
 
+		Checkpoint check = this.getCheckpoint();
 		if(finish != null && finish.getTouch()) {
 			this.setWon(true);
 		}else if(check != null && check.getTouch()) {
@@ -112,10 +112,10 @@ public class GravityWellBikeLevel extends BikeLevel {
 	}
 
 	/**
-	 * Reset only the bike.
+	 * Build a new bike at the respawn position.
 	 */
 	@Override
-	public void resetBike() {
+	protected void rebuildBike() {
 		this.removeActor(myBike);
 		myBike = new Bike(game, this.getBikePosition(), true);
 		this.setBike(myBike);
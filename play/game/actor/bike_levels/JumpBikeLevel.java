@@ -119,10 +119,10 @@ public class JumpBikeLevel extends BikeLevel {
 	
 
 	/**
-	 * Reset only the bike.
+	 * Build a new bike at the respawn position.
 	 */
 	@Override
-	public void resetBike() {
+	protected void rebuildBike() {
 		this.removeActor(myBike);
 		myBike = new Bike(game, this.getBikePosition(), true);
 		this.setBike(myBike);
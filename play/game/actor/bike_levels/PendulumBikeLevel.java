@@ -16,7 +16,6 @@ public class PendulumBikeLevel extends BikeLevel {
 	// Actors used with contact listener
 	private Bike myBike;
 	private Finish finish; 
-	private Checkpoint check;
 	
 	// Initial position of myBike
 	private Vector initialPosition = new Vector(-6.f, 8.0f);
@@ -58,7 +57,7 @@ public class PendulumBikeLevel extends BikeLevel {
 										190.0f, -100	));
 		
 		// Adding a checkpoint
-		check = new Checkpoint(game, new Vector(70.f, 0.0f));
+		this.setCheckpoint(new Checkpoint(game, new Vector(70.f, 0.0f)));
 		
 		//Adding a finish line
 		finish = new Finish(game, new Vector(180.0f, 7.0f));
@@ -90,6 +89,7 @@ public class PendulumBikeLevel extends BikeLevel {
 	public void update(float deltaTime) {
 		super.update(deltaTime);
 		
+		Checkpoint check = this.getCheckpoint();
 		if(finish != null && finish.getTouch()) {
 			this.setWon(true);
 		}else if(check != null && check.getTouch()) {
@@ -111,10 +111,10 @@ public class PendulumBikeLevel extends BikeLevel {
 
 	
 	/**
-	 * Reset only the bike.
+	 * Build a new bike at the respawn position.
 	 */
 	@Override
-	public void resetBike() {
+	protected void rebuildBike() {
 		this.removeActor(myBike);
 		myBike = new Bike(game, this.getBikePosition(), true);
 		this.setBike(myBike);
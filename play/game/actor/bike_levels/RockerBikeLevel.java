@@ -17,7 +17,6 @@ public class RockerBikeLevel extends BikeLevel {
 	// Actors used with contact listener
 	private Bike myBike;
 	private Finish finish; 
-	private Checkpoint check;
 	
 	// Initial position of myBike
 	private Vector initialPosition = new Vector(-23.f, -5.0f);
@@ -70,7 +69,7 @@ public class RockerBikeLevel extends BikeLevel {
 		new Rocker(game, new Vector(58.0f, -1.5f), 10.0f, 1/2f );
 	
 		// Adding a checkpoint
-		check = new Checkpoint(game, new Vector(15.f, 0.0f));
+		this.setCheckpoint(new Checkpoint(game, new Vector(15.f, 0.0f)));
 		
 		//Adding a finish line
 		finish = new Finish(game, new Vector(90.0f, 0.0f));
@@ -93,6 +92,7 @@ public class RockerBikeLevel extends BikeLevel {
 	public void update(float deltaTime) {
 		super.update(deltaTime);
 		
+		Checkpoint check = this.getCheckpoint();
 		if(finish != null && finish.getTouch()) {
 			this.setWon(true);
 		}else if(check != null && check.getTouch()) {
@@ -114,10 +114,10 @@ public class RockerBikeLevel extends BikeLevel {
 
 	
 	/**
-	 * Reset only the bike.
+	 * Build a new bike at the respawn position.
 	 */
 	@Override
-	public void resetBike() {
+	protected void rebuildBike() {
 		this.removeActor(myBike);
 		myBike = new Bike(game, this.getBikePosition(), true);
 		this.setBike(myBike);
@@ -18,7 +18,6 @@ public class TutorialBikeLevel extends BikeLevel {
 	// Actors used with contact listener
 	private Bike myBike;
 	private Finish finish; 
-	private Checkpoint check;
 	
 	private int counter = 0;
 	
@@ -54,7 +53,7 @@ public class TutorialBikeLevel extends BikeLevel {
 										1000.0f, -100	));
 		
 		// Adding a checkpoint
-		check = new Checkpoint(game, new Vector(30.f, 0.0f));
+		this.setCheckpoint(new Checkpoint(game, new Vector(30.f, 0.0f)));
 		
 		// Adding crates 
 		new Crate(game, false, new Vector(130.0f, 3.0f));
@@ -97,6 +96,7 @@ public class TutorialBikeLevel extends BikeLevel {
 			myBikeGame.setTutorial("");
 		}
 		
+		Checkpoint check = this.getCheckpoint();
 		if(finish != null && finish.getTouch()) {
 			this.setWon(true);
 		}else if(check != null && check.getTouch()) {
@@ -104,7 +104,7 @@ public class TutorialBikeLevel extends BikeLevel {
 			float y = check.getPosition().y;
 			this.setBikePosition(new Vector(x, y + 3.0f));
 			this.game.removeActor(check);
-			check = new Checkpoint(game, new Vector(x + 30.f, y));
+			this.setCheckpoint(new Checkpoint(game, new Vector(x + 30.f, y)));
 			counter ++;
 		}
 	}
@@ -123,10 +123,10 @@ public class TutorialBikeLevel extends BikeLevel {
 
 	
 	/**
-	 * Reset only the bike.
+	 * Build a new bike at the respawn position.
 	 */
 	@Override
-	public void resetBike() {
+	protected void rebuildBike() {
 		this.removeActor(myBike);
 		myBike = new Bike(game, this.getBikePosition(), true);
 		this.setBike(myBike);
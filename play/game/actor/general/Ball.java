@@ -6,6 +6,7 @@ import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ShapeGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Circle;
 import ch.epfl.cs107.play.math.Entity;
 import ch.epfl.cs107.play.math.RopeConstraintBuilder;
@@ -79,11 +80,25 @@ public class Ball extends GameEntity implements Actor {
 		return this.getEntity().getTransform();
 	}
 
+	@Override
+	public Transform getRenderTransform() {
+		return this.getEntity().getRenderTransform();
+	}
+
 	@Override
 	public Vector getVelocity() {
 		return this.getEntity().getVelocity();
 	}
 
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the ball may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return ballGraphics.isVisible(viewport);
+	}
+	
 	/**
 	 * Draws the ball
 	 * @param canvas the canvas in which we want to draw
@@ -0,0 +1,39 @@
+package ch.epfl.cs107.play.game.actor.general;
+
+import java.util.List;
+
+import ch.epfl.cs107.play.game.actor.Actor;
+import ch.epfl.cs107.play.game.actor.ActorGame;
+
+/**
+ * Produces the content of a level slice, in two steps.
+ * @param <T> type of the prepared content
+ */
+public interface ChunkGenerator<T> {
+
+	/**
+	 * Computes the content of a chunk, called from a loader thread.
+	 * It must not access the game nor its world, but may build shapes.
+	 * @param index chunk index
+	 * @param minX lower abscissa of the chunk
+	 * @param maxX upper abscissa of the chunk
+	 * @return prepared content, null if the chunk is empty
+	 */
+	public T prepare(int index, float minX, float maxX);
+
+	/**
+	 * Creates the actors of a chunk, called from the game thread.
+	 * @param game the ActorGame owner of the actors, not null
+	 * @param content content returned by prepare, not null
+	 * @param actors list in which every created actor must be added, not null
+	 */
+	public void build(ActorGame game, T content, List<Actor> actors);
+
+	/**
+	 * Forgets the actors of a chunk, called from the game thread once they have been removed from the game.
+	 * @param content content given to build, not null
+	 */
+	public default void destroy(T content) {
+	}
+
+}
@@ -0,0 +1,193 @@
+package ch.epfl.cs107.play.game.actor.general;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import ch.epfl.cs107.play.game.actor.Actor;
+import ch.epfl.cs107.play.game.actor.ActorGame;
+
+/**
+ * Creates the actors of a level slice by slice, just ahead of a region of interest, and destroys them behind it.
+ * Chunk content is prepared on a loader thread, actors are then created on the game thread.
+ * Actors are created when their chunk enters the region, regardless of loader progress, so that simulation is deterministic.
+ * @param <T> type of the prepared content
+ */
+public class ChunkStreamer<T> {
+
+	// Loader thread, shared by all streamers
+	private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "chunk-loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// Number of chunks kept beyond the region before being destroyed, to avoid reloading near borders
+	private static final int MARGIN = 2;
+
+	private final ActorGame game;
+	private final ChunkGenerator<T> generator;
+	private final float chunkSize;
+
+	// Chunks being prepared, and chunks whose actors exist
+	private final Map<Integer, Future<T>> pending = new HashMap<>();
+	private final Map<Integer, Chunk<T>> loaded = new HashMap<>();
+
+	// Content of a loaded chunk, null if empty, and its actors
+	private static class Chunk<T> {
+
+		private final T content;
+		private final List<Actor> actors = new ArrayList<>();
+
+		private Chunk(T content) {
+			this.content = content;
+		}
+
+	}
+
+	/**
+	 * Creates a new streamer, without any chunk.
+	 * @param game the ActorGame owner of the actors, not null
+	 * @param generator content source, not null
+	 * @param chunkSize width of a chunk, in meters, positive
+	 */
+	public ChunkStreamer(ActorGame game, ChunkGenerator<T> generator, float chunkSize) {
+		if (game == null || generator == null) {
+			throw new NullPointerException();
+		}
+		if (!(chunkSize > 0.0f)) {
+			throw new IllegalArgumentException();
+		}
+		this.game = game;
+		this.generator = generator;
+		this.chunkSize = chunkSize;
+	}
+
+	/** @return width of a chunk, in meters */
+	public float getChunkSize() {
+		return chunkSize;
+	}
+
+	/** @return number of chunks whose actors exist */
+	public int getLoadedCount() {
+		return loaded.size();
+	}
+
+	/**
+	 * @param x any abscissa
+	 * @return index of the chunk containing it
+	 */
+	public int getIndex(float x) {
+		return (int) Math.floor(x / chunkSize);
+	}
+
+	/**
+	 * Makes sure that chunks overlapping a region exist, and destroys those far from it.
+	 * Missing chunks of the region are waited for, while the next chunk on each side is prepared in background.
+	 * @param minX lower abscissa of the region
+	 * @param maxX upper abscissa of the region
+	 */
+	public void update(float minX, float maxX) {
+		int first = getIndex(Math.min(minX, maxX));
+		int last = getIndex(Math.max(minX, maxX));
+
+		// Destroy chunks far from the region, and forget outdated requests
+		Iterator<Map.Entry<Integer, Chunk<T>>> iterator = loaded.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Integer, Chunk<T>> entry = iterator.next();
+			if (entry.getKey() < first - MARGIN || entry.getKey() > last + MARGIN) {
+				unload(entry.getValue());
+				iterator.remove();
+			}
+		}
+		Iterator<Map.Entry<Integer, Future<T>>> requests = pending.entrySet().iterator();
+		while (requests.hasNext()) {
+			Map.Entry<Integer, Future<T>> entry = requests.next();
+			if (entry.getKey() < first - MARGIN || entry.getKey() > last + MARGIN) {
+				entry.getValue().cancel(false);
+				requests.remove();
+			}
+		}
+
+		// Request missing chunks, including one on each side
+		for (int i = first - 1; i <= last + 1; ++i) {
+			if (!loaded.containsKey(i) && !pending.containsKey(i)) {
+				int index = i;
+				pending.put(i, LOADER.submit(() -> generator.prepare(index, index * chunkSize, (index + 1) * chunkSize)));
+			}
+		}
+
+		// Create actors of the region, waiting for chunks not prepared yet
+		for (int i = first; i <= last; ++i) {
+			Future<T> future = pending.get(i);
+			if (future != null) {
+				pending.remove(i);
+				Chunk<T> chunk = new Chunk<>(get(future));
+				if (chunk.content != null) {
+					generator.build(game, chunk.content, chunk.actors);
+					preload(chunk.actors);
+				}
+				loaded.put(i, chunk);
+			}
+		}
+	}
+
+	/**
+	 * Destroys every chunk and forgets pending requests.
+	 */
+	public void clear() {
+		for (Future<T> future : pending.values()) {
+			future.cancel(false);
+		}
+		pending.clear();
+		for (Chunk<T> chunk : loaded.values()) {
+			unload(chunk);
+		}
+		loaded.clear();
+	}
+
+	// Start loading images of new actors, before they become visible
+	private void preload(List<Actor> actors) {
+		Set<String> names = new HashSet<>();
+		for (Actor actor : actors) {
+			actor.collectImages(names);
+		}
+		game.getCanvas().preload(names);
+	}
+
+	// Remove actors from the game, which destroys them, then let the generator forget them
+	private void unload(Chunk<T> chunk) {
+		for (Actor actor : chunk.actors) {
+			game.removeActor(actor);
+		}
+		if (chunk.content != null) {
+			generator.destroy(chunk.content);
+		}
+	}
+
+	// Wait for completion and propagate loader failures
+	private static <T> T get(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+}
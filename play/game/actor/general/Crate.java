@@ -1,9 +1,12 @@
 package ch.epfl.cs107.play.game.actor.general;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ImageGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Polygon;
 import ch.epfl.cs107.play.math.Transform;
 import ch.epfl.cs107.play.math.Vector;
@@ -80,6 +83,25 @@ public class Crate extends GameEntity implements Actor {
 		return this.getEntity().getVelocity();
 	}
 
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the crate may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return crateGraphics.isVisible(viewport);
+	}
+	
+	/**
+	 * Adds the images drawn by the crate
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		names.add(crateGraphics.getName());
+	}
+	
+	
 	/**
 	 * Draws the plank in the canvas
      * @param canvas the canvas in which we want to draw
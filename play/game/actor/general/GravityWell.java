@@ -6,6 +6,7 @@ import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ShapeGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Contact;
 import ch.epfl.cs107.play.math.ContactListener;
 import ch.epfl.cs107.play.math.Entity;
@@ -71,8 +72,8 @@ public class GravityWell extends GameEntity implements Actor{
 		// Build the entity of the shape
 		buildPart(shape, true, CATEGORY_WELL, MASK_WELL);
 		
-		//Add contact listener
-		this.getEntity().addContactListener(listener);
+		//Add contact listener, only for the attracted categories
+		this.getEntity().addContactListener(listener, MASK_WELL);
         
         // Graphic part
 		wellGraphics = new ShapeGraphics(shape, Color.GRAY, Color.BLACK, .03f, 0.5f, -1.0f);
@@ -123,6 +124,15 @@ public class GravityWell extends GameEntity implements Actor{
 		return this.getEntity().getVelocity();
 	}
 
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the gravity well may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return wellGraphics.isVisible(viewport);
+	}
+	
 	/**
 	 * Draws the Gravity Well in the canvas
      * @param canvas the canvas in which we want to draw
@@ -1,9 +1,11 @@
 package ch.epfl.cs107.play.game.actor.general;
 
 import java.util.ArrayList;
+import java.util.Collection;
 
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Transform;
 import ch.epfl.cs107.play.math.Vector;
 import ch.epfl.cs107.play.window.Canvas;
@@ -47,6 +49,21 @@ public abstract class Level implements Actor {
 			actors.get(i).draw(canvas);
 		}
 	}
+	
+	
+	/**
+	 * Draws the Actors that may be visible in the canvas
+	 * @param canvas the canvas in which we want to draw
+	 * @param viewport visible region, in world coordinates
+	 */
+	public void draw(Canvas canvas, Box viewport) {
+		for(int i=0; i < actors.size(); i++) {
+			Actor actor = actors.get(i);
+			if(actor.isVisible(viewport)) {
+				actor.draw(canvas);
+			}
+		}
+	}
 
 	
 	 /**
@@ -61,6 +78,18 @@ public abstract class Level implements Actor {
 	}
 
 
+	/**
+	 * Adds the images of every Actors
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		for(int i=0; i < actors.size(); i++) {
+			actors.get(i).collectImages(names);
+		}
+	}
+	
+
 	@Override
 	public Transform getTransform() {
 		return null;
@@ -1,5 +1,7 @@
 package ch.epfl.cs107.play.game.actor.general;
 
+import java.util.Collection;
+
 import java.awt.Color;
 
 import ch.epfl.cs107.play.game.actor.Actor;
@@ -71,6 +73,16 @@ public class Pendulum extends GameEntity implements Actor {
 		return this.getEntity().getVelocity();
 	}
 
+	/**
+	 * Adds the images drawn by the pendulum block
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		names.add(blockGraphics.getName());
+	}
+	
+	
 	/**
 	 * Draws the pendulum (block, ball & rope)
 	 * @param canvas the canvas in which we want to draw
@@ -80,7 +92,7 @@ public class Pendulum extends GameEntity implements Actor {
 		if(getEntity().isAlive()) {
 			blockGraphics.draw(canvas);
 			ball.draw(canvas);
-			Polyline rope = new Polyline(this.getTransform().onPoint(0.5f, 0.5f), ball.getPosition());
+			Polyline rope = new Polyline(this.getTransform().onPoint(0.5f, 0.5f), ball.getRenderTransform().getOrigin());
 			canvas.drawShape(rope, Transform.I, Color.GRAY, Color.GRAY, 0.1f, 1.0f, -1.0f);	
 		}
 	}
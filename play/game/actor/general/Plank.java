@@ -1,9 +1,12 @@
 package ch.epfl.cs107.play.game.actor.general;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ImageGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Entity;
 import ch.epfl.cs107.play.math.Polygon;
 import ch.epfl.cs107.play.math.RevoluteConstraintBuilder;
@@ -114,6 +117,25 @@ public class Plank extends GameEntity implements Actor {
 	}
 
 	
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the plank may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return plankGraphics.isVisible(viewport);
+	}
+	
+	/**
+	 * Adds the images drawn by the plank
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		names.add(plankGraphics.getName());
+	}
+	
+	
 	/**
 	 * Draws the plank in the canvas
      * @param canvas the canvas in which we want to draw
@@ -1,9 +1,12 @@
 package ch.epfl.cs107.play.game.actor.general;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ImageGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Polygon;
 import ch.epfl.cs107.play.math.Transform;
 import ch.epfl.cs107.play.math.Vector;
@@ -72,6 +75,26 @@ public class Rocker extends GameEntity implements Actor {
 	}
 
 	
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the block or the plank may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return blockGraphics.isVisible(viewport) || plank.isVisible(viewport);
+	}
+
+	
+	/**
+	 * Adds the images drawn by the rocker block
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		names.add(blockGraphics.getName());
+	}
+	
+	
 	/**
 	 * Draws the rocker in the canvas
      * @param canvas the canvas in which we want to draw
@@ -1,11 +1,14 @@
 package ch.epfl.cs107.play.game.actor.general;
 
 import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
 
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ShapeGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Part;
 import ch.epfl.cs107.play.math.Polyline;
 import ch.epfl.cs107.play.math.Transform;
@@ -18,8 +21,9 @@ public class Terrain extends GameEntity implements Actor {
 	private final short CATEGORY_SCENERY = 0x0016;
 	private final short MASK_SCENERY = -1;
 	
-	// Graphic part for the terrain
+	// Graphic part for the terrain, and for its surface if drawn separately
 	private ShapeGraphics terrainGraphics;
+	private ShapeGraphics surfaceGraphics;
 	
 	/**
 	 * Creates a new Terrain in the game
@@ -47,6 +51,50 @@ public class Terrain extends GameEntity implements Actor {
         // Graphic part
         terrainGraphics = new ShapeGraphics(line, Color.GRAY, color, 0.15f);
         terrainGraphics.setParent(this.getEntity());
+        terrainGraphics.setFixed(true);
+        
+        // Adds this terrain to the game's Actor list
+        game.addActor(this);
+	}
+	
+	/**
+	 * Creates a new Terrain slice in the game, which only collides along its surface.
+	 * The ground below the surface is filled without outline on its sides, so that adjacent slices look seamless.
+	 * @param game the ActorGame owner of this terrain
+	 * @param surface an open PolyLine that gives the surface of the terrain
+	 * @param bottom a float that gives the ordinate down to which the ground is filled
+	 * @param friction a float that gives the friction of the terrain
+	 * @param rebound a float that gives the restitution coefficient of the terrain
+	 * @param color a Color for the surface
+	 */
+	public Terrain(ActorGame game, Polyline surface, float bottom, float friction, float rebound, Color color) {
+		
+		// Call to the GameEntity constructor
+		super(game, true, new Vector(0.0f, 0.0f));
+		
+		// Deals with incorrect parameters
+		if(color == null) {
+			throw new NullPointerException();
+		}
+		if(surface.isClosed()) {
+			throw new IllegalArgumentException("An open surface is expected");
+		}
+		
+		//Creation of the terrain
+		Part part = buildPart(surface, false, CATEGORY_SCENERY, MASK_SCENERY);
+        part.setFriction(friction);
+        part.setRestitution(rebound);
+        
+        // Graphic part, closing the surface downwards
+        List<Vector> points = new ArrayList<Vector>(surface.getPoints());
+        points.add(new Vector(points.get(points.size() - 1).x, bottom));
+        points.add(new Vector(points.get(0).x, bottom));
+        terrainGraphics = new ShapeGraphics(new Polyline(true, points), Color.GRAY, null, 0.0f);
+        terrainGraphics.setParent(this.getEntity());
+        terrainGraphics.setFixed(true);
+        surfaceGraphics = new ShapeGraphics(surface, null, color, 0.15f);
+        surfaceGraphics.setParent(this.getEntity());
+        surfaceGraphics.setFixed(true);
         
         // Adds this terrain to the game's Actor list
         game.addActor(this);
@@ -71,6 +119,15 @@ public class Terrain extends GameEntity implements Actor {
 		return this.getEntity().getVelocity();
 	}
 
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the terrain may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return terrainGraphics.isVisible(viewport) || (surfaceGraphics != null && surfaceGraphics.isVisible(viewport));
+	}
+	
 	/**
      * Draws the terrain in the canvas
      * @param canvas the canvas in which we want to draw
@@ -78,6 +135,9 @@ public class Terrain extends GameEntity implements Actor {
 	@Override
 	public void draw(Canvas canvas) {
 		terrainGraphics.draw(canvas);	
+		if(surfaceGraphics != null) {
+			surfaceGraphics.draw(canvas);
+		}
 	}
 
 }
@@ -1,9 +1,12 @@
 package ch.epfl.cs107.play.game.actor.general;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ImageGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Circle;
 import ch.epfl.cs107.play.math.Contact;
 import ch.epfl.cs107.play.math.ContactListener;
@@ -64,8 +67,8 @@ public class Trigger extends GameEntity implements Actor{
 		Circle circle = new Circle(detectionRadius);
 		buildPart(circle, true, category, mask);
 		
-		//Add contact listener
-		this.getEntity().addContactListener(listener);
+		//Add contact listener, only for the detected categories
+		this.getEntity().addContactListener(listener, mask);
         
         // Graphic part
         triggerGraphics = new ImageGraphics(name, 1.0f, 1.0f, new Vector(0.0f, 0.0f));
@@ -105,6 +108,25 @@ public class Trigger extends GameEntity implements Actor{
 	}
 
 	
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the trigger may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return triggerGraphics.isVisible(viewport);
+	}
+	
+	/**
+	 * Adds the images drawn by the trigger
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		names.add(triggerGraphics.getName());
+	}
+	
+	
 	/**
      * Draws the trigger with the associated image
      * @param canvas the canvas in which we want to draw
@@ -1,9 +1,12 @@
 package ch.epfl.cs107.play.game.actor.general;
 
+import java.util.Collection;
+
 import ch.epfl.cs107.play.game.actor.Actor;
 import ch.epfl.cs107.play.game.actor.ActorGame;
 import ch.epfl.cs107.play.game.actor.GameEntity;
 import ch.epfl.cs107.play.game.actor.ImageGraphics;
+import ch.epfl.cs107.play.math.Box;
 import ch.epfl.cs107.play.math.Circle;
 import ch.epfl.cs107.play.math.Entity;
 import ch.epfl.cs107.play.math.PartBuilder;
@@ -134,6 +137,25 @@ public class Wheel extends GameEntity implements Actor  {
 		return this.getEntity().getVelocity();
 	}
 	
+	/**
+	 * @param viewport visible region, in world coordinates
+	 * @return true if the wheel may be visible
+	 */
+	@Override
+	public boolean isVisible(Box viewport) {
+		return wheelGraphics.isVisible(viewport);
+	}
+	
+	/**
+	 * Adds the images drawn by the wheel
+	 * @param names the collection to fill
+	 */
+	@Override
+	public void collectImages(Collection<String> names) {
+		names.add(wheelGraphics.getName());
+	}
+	
+	
 	/**
 	 * Draws the image associated to the wheel
 	 * @param canvas the canvas in which we want to draw
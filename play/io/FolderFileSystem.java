@@ -46,7 +46,7 @@ public class FolderFileSystem implements FileSystem {
     @Override
     public OutputStream write(String name) throws IOException {
         File file = new File(folder, name);
-        if (file.canWrite())
+        if (file.exists() ? file.canWrite() : folder.canWrite())
             return new FileOutputStream(file);
         return fallback.write(name);
     }
@@ -0,0 +1,165 @@
+package ch.epfl.cs107.play.math;
+
+/**
+ * Represents an immutable axis-aligned rectangle, mostly used as bounding box.
+ */
+public final class Box {
+
+    /** Lower abscissa */
+    public final float minX;
+
+    /** Lower ordinate */
+    public final float minY;
+
+    /** Upper abscissa */
+    public final float maxX;
+
+    /** Upper ordinate */
+    public final float maxY;
+
+    /**
+     * Creates a new box.
+     * @param minX lower abscissa
+     * @param minY lower ordinate
+     * @param maxX upper abscissa, not smaller than lower abscissa
+     * @param maxY upper ordinate, not smaller than lower ordinate
+     */
+    public Box(float minX, float minY, float maxX, float maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Creates the smallest box containing specified points.
+     * @param points at least one point, not null
+     * @return bounding box, not null
+     */
+    public static Box of(Iterable<Vector> points) {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (Vector point : points) {
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+        return new Box(minX, minY, maxX, maxY);
+    }
+
+    /** @return lower corner, not null */
+    public Vector getMin() {
+        return new Vector(minX, minY);
+    }
+
+    /** @return upper corner, not null */
+    public Vector getMax() {
+        return new Vector(maxX, maxY);
+    }
+
+    /** @return horizontal size */
+    public float getWidth() {
+        return maxX - minX;
+    }
+
+    /** @return vertical size */
+    public float getHeight() {
+        return maxY - minY;
+    }
+
+    /**
+     * Checks whether two boxes overlap, borders included.
+     * @param other any box, not null
+     * @return true if they overlap
+     */
+    public boolean intersects(Box other) {
+        return intersects(other.minX, other.minY, other.maxX, other.maxY);
+    }
+
+    /**
+     * Checks whether specified rectangle overlaps this box, borders included.
+     * @param minX lower abscissa
+     * @param minY lower ordinate
+     * @param maxX upper abscissa
+     * @param maxY upper ordinate
+     * @return true if they overlap
+     */
+    public boolean intersects(float minX, float minY, float maxX, float maxY) {
+        return minX <= this.maxX && maxX >= this.minX && minY <= this.maxY && maxY >= this.minY;
+    }
+
+    /**
+     * Checks whether a transformed rectangle overlaps this box, without allocation.
+     * The bounding box of the transformed rectangle is used, hence the test is conservative.
+     * @param minX lower local abscissa
+     * @param minY lower local ordinate
+     * @param maxX upper local abscissa
+     * @param maxY upper local ordinate
+     * @param transform local to world transform, not null
+     * @param margin additional distance around the transformed rectangle, non-negative
+     * @return true if they may overlap
+     */
+    public boolean intersects(float minX, float minY, float maxX, float maxY, Transform transform, float margin) {
+
+        // Transform center and half extents, using absolute axes for the extents
+        float cx = 0.5f * (minX + maxX);
+        float cy = 0.5f * (minY + maxY);
+        float hx = 0.5f * Math.abs(maxX - minX);
+        float hy = 0.5f * Math.abs(maxY - minY);
+        float x = cx * transform.m00 + cy * transform.m01 + transform.m02;
+        float y = cx * transform.m10 + cy * transform.m11 + transform.m12;
+        float ex = hx * Math.abs(transform.m00) + hy * Math.abs(transform.m01) + margin;
+        float ey = hx * Math.abs(transform.m10) + hy * Math.abs(transform.m11) + margin;
+        return intersects(x - ex, y - ey, x + ex, y + ey);
+    }
+
+    /**
+     * Checks whether a transformed box overlaps this box, without allocation.
+     * @param other box in local coordinates, not null
+     * @param transform local to world transform, not null
+     * @param margin additional distance around the transformed box, non-negative
+     * @return true if they may overlap
+     */
+    public boolean intersects(Box other, Transform transform, float margin) {
+        return intersects(other.minX, other.minY, other.maxX, other.maxY, transform, margin);
+    }
+
+    /**
+     * Computes the bounding box of this box, once transformed.
+     * @param transform any affine transform, not null
+     * @return bounding box, not null
+     */
+    public Box transformed(Transform transform) {
+        float cx = 0.5f * (minX + maxX);
+        float cy = 0.5f * (minY + maxY);
+        float hx = 0.5f * Math.abs(maxX - minX);
+        float hy = 0.5f * Math.abs(maxY - minY);
+        float x = cx * transform.m00 + cy * transform.m01 + transform.m02;
+        float y = cx * transform.m10 + cy * transform.m11 + transform.m12;
+        float ex = hx * Math.abs(transform.m00) + hy * Math.abs(transform.m01);
+        float ey = hx * Math.abs(transform.m10) + hy * Math.abs(transform.m11);
+        return new Box(x - ex, y - ey, x + ex, y + ey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Float.hashCode(minX) ^ Float.hashCode(minY) ^ Float.hashCode(maxX) ^ Float.hashCode(maxY);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == null || !(object instanceof Box))
+            return false;
+        Box other = (Box)object;
+        return minX == other.minX && minY == other.minY && maxX == other.maxX && maxY == other.maxY;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minX + "," + minY + " - " + maxX + "," + maxY + "]";
+    }
+
+}
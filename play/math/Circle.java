@@ -16,6 +16,7 @@ public final class Circle extends Shape {
     
     private final float radius;
     private final Vector center;
+    private final Box bounds;
 
     /**
      * Creates a new circle.
@@ -27,6 +28,7 @@ public final class Circle extends Shape {
             throw new NullPointerException();
         this.radius = radius;
         this.center = center;
+        bounds = new Box(center.x - radius, center.y - radius, center.x + radius, center.y + radius);
     }
 
     /**
@@ -71,6 +73,11 @@ public final class Circle extends Shape {
         );
     }
 
+    @Override
+    public Box getBounds() {
+        return bounds;
+    }
+
     @Override
     public Path2D toPath() {
 
@@ -2,22 +2,19 @@ package ch.epfl.cs107.play.math;
 
 /**
  * Represents a single contact point between two entities.
+ * Contact objects are recycled once ended, hence references should not be kept after <code>endContact</code>.
  */
 public final class Contact {
     
     // TODO  provide more information about contact
 	// (location, force...) if needed
     
-    final Part owner;
-    final Part other;
+    Part owner;
+    Part other;
     boolean alive;
     
-    // For internal use only
-    Contact(Part owner, Part other) {
-        this.owner = owner;
-        this.other = other;
-        alive = true;
-    }
+    // For internal use only, proxies are recycled by world
+    Contact() {}
     
     /** @return whether this contact still exists */
     public boolean isAlive() {
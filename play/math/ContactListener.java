@@ -1,7 +1,7 @@
 package ch.epfl.cs107.play.math;
 
 /**
- * Event handler for physical contact between entities. As these events occur during simulation, some operations are forbidden during callbacks.
+ * Event handler for physical contact between entities. Events are collected during simulation and delivered after each step, hence entities can be safely created or destroyed during callbacks.
  */
 public interface ContactListener {
     
@@ -12,7 +12,7 @@ public interface ContactListener {
     public void beginContact(Contact contact);
     
     /**
-     * Called when a contact ceases to exist. After this event, the contact is destroyed.
+     * Called when a contact ceases to exist. After this event, the contact is destroyed and may be recycled.
      * @param contact old contact object, not null
      */
     public void endContact(Contact contact);
@@ -1,6 +1,7 @@
 package ch.epfl.cs107.play.math;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.jbox2d.common.Vec2;
@@ -20,16 +21,40 @@ public class Entity implements Positionable {
     // Transform is set by world, at each update
     Transform transform;
     
+    // State before last simulation step, used for render interpolation
+    float previousX;
+    float previousY;
+    float previousC;
+    float previousS;
+    
+    // Interpolated transform, reset by world at each update
+    Transform renderTransform;
+    
     // Internal list of parts
     List<Part> parts;
     
-    // Listeners
-    List<ContactListener> contactListeners;
+    // Listener, along with collision categories it is interested in
+    static final class ContactRegistration {
+        final ContactListener listener;
+        final int mask;
+        
+        ContactRegistration(ContactListener listener, int mask) {
+            this.listener = listener;
+            this.mask = mask;
+        }
+    }
+    
+    // Listeners, replaced rather than modified, so that dispatch can safely iterate over them
+    static final ContactRegistration[] NO_LISTENERS = new ContactRegistration[0];
+    ContactRegistration[] contactListeners;
+    
+    // Union of listener masks, used to discard unwanted contacts early
+    int contactMask;
     
     // For internal use only
     Entity() {
         parts = new ArrayList<>();
-        contactListeners = new ArrayList<>();
+        contactListeners = NO_LISTENERS;
     }
 
     
@@ -71,6 +96,9 @@ public class Entity implements Positionable {
     public void setTransform(Vector position, float angle) {
         body.setTransform(new Vec2(position.x, position.y), angle);
         transform = null;
+        // Teleport, do not interpolate from old location
+        capturePrevious();
+        renderTransform = null;
     }
     
     @Override
@@ -88,6 +116,43 @@ public class Entity implements Positionable {
         return transform;
     }
     
+    @Override
+    public Transform getRenderTransform() {
+        if (renderTransform == null) {
+            float alpha = world == null ? 1.0f : world.getInterpolationFactor();
+            if (alpha >= 1.0f || body.m_type == BodyType.STATIC)
+                renderTransform = getTransform();
+            else {
+                // Blend positions linearly and normalize blended rotation
+                float c = previousC + (body.m_xf.q.c - previousC) * alpha;
+                float s = previousS + (body.m_xf.q.s - previousS) * alpha;
+                float length = (float)Math.sqrt(c * c + s * s);
+                if (length > 1e-6f) {
+                    c /= length;
+                    s /= length;
+                } else {
+                    c = body.m_xf.q.c;
+                    s = body.m_xf.q.s;
+                }
+                float x = previousX + (body.m_xf.p.x - previousX) * alpha;
+                float y = previousY + (body.m_xf.p.y - previousY) * alpha;
+                renderTransform = new Transform(
+                    c, -s, x,
+                    s, c, y
+                );
+            }
+        }
+        return renderTransform;
+    }
+    
+    // Internal callback, saves current state before a simulation step
+    void capturePrevious() {
+        previousX = body.m_xf.p.x;
+        previousY = body.m_xf.p.y;
+        previousC = body.m_xf.q.c;
+        previousS = body.m_xf.q.s;
+    }
+    
     /**
      * Sets the linear position of the entity.
      * @param position new linear position, not null
@@ -198,13 +263,27 @@ public class Entity implements Positionable {
     }
     
     /**
-     * Adds a new contact listener.
+     * Adds a new contact listener, notified of all contacts.
      * @param listener new listener, not null
      */
     public void addContactListener(ContactListener listener) {
+        addContactListener(listener, -1);
+    }
+    
+    /**
+     * Adds a new contact listener, only notified of contacts with specific collision categories.
+     * Contacts matching no listener are never reported, which saves their bookkeeping.
+     * @param listener new listener, not null
+     * @param mask bitfield specifying which collision signatures of the other part are reported
+     * @see PartBuilder#setCollisionSignature(int)
+     */
+    public void addContactListener(ContactListener listener, int mask) {
         if (listener == null)
             throw new NullPointerException();
-        contactListeners.add(listener);
+        ContactRegistration[] listeners = Arrays.copyOf(contactListeners, contactListeners.length + 1);
+        listeners[contactListeners.length] = new ContactRegistration(listener, mask);
+        contactListeners = listeners;
+        contactMask |= mask;
     }
     
     /**
@@ -212,7 +291,17 @@ public class Entity implements Positionable {
      * @param listener listener, not null
      */
     public void removeContactListener(ContactListener listener) {
-        contactListeners.remove(listener);
+        ContactRegistration[] listeners = new ContactRegistration[contactListeners.length];
+        int count = 0;
+        contactMask = 0;
+        for (ContactRegistration registration : contactListeners) {
+            if (registration.listener != listener) {
+                listeners[count++] = registration;
+                contactMask |= registration.mask;
+            }
+        }
+        if (count < listeners.length)
+            contactListeners = count == 0 ? NO_LISTENERS : Arrays.copyOf(listeners, count);
     }
     
     /** @return new part builder */
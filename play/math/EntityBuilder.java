@@ -126,6 +126,8 @@ public class EntityBuilder {
             s, c, y
         );
         entity.transform = transform;
+        entity.renderTransform = transform;
+        entity.capturePrevious();
         entity.body.m_userData = entity;
         return entity;
     }
@@ -45,6 +45,14 @@ public class Node implements Attachable {
         return absolute;
     }
 
+    @Override
+    public Transform getRenderTransform() {
+        Transform relative = getRelativeTransform();
+        if (parent == null)
+            return relative;
+        return relative.transformed(parent.getRenderTransform());
+    }
+
     @Override
     public Vector getPosition() {
         Transform relative = getRelativeTransform();
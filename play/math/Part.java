@@ -11,6 +11,9 @@ public class Part {
     Entity entity;
     List<Fixture> fixtures;
     
+    // Last region query that reported this part, used by world to avoid duplicates
+    int queryStamp;
+    
     // For internal use only
     Part() {}
 
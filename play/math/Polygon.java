@@ -4,9 +4,12 @@ import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Settings;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Fixture;
 import org.jbox2d.dynamics.FixtureDef;
@@ -18,9 +21,11 @@ public final class Polygon extends Shape {
 
 	private final List<Vector> points;
 	private List<Vector[]> components;
+	private List<Vector[]> triangles;
     private float[] areas;
     private float area;
     private float perimeter;
+    private Box bounds;
 
 	/**
 	 * Creates a new polygon.
@@ -57,18 +62,17 @@ public final class Polygon extends Shape {
 	// Generate convex decomposition
 	private void initialize() {
 
-		// TODO use better convex partitioning,
-		// i.e. split in convex polygons instead of only triangles
-
 		// Check validity
 		if (points.size() < 3)
 			throw new IllegalArgumentException("At least three points are required");
+		bounds = Box.of(points);
 
 		// Prepare buffers
 		Vector[] vertices = new Vector[points.size()];
 		vertices = points.toArray(vertices);
 		int count = vertices.length;
 		components = new ArrayList<>();
+		triangles = new ArrayList<>();
 
 		// Make sure vertices are counter-clockwise
         area = area(vertices);
@@ -81,57 +85,204 @@ public final class Polygon extends Shape {
         // Handle trivial case
 		if (vertices.length == 3) {
 			components.add(vertices);
+			triangles.add(vertices);
             areas = new float[] {area};
 			return;
 		}
 
 		// Triangulate using ear clipping
-		while (count > 2) {
-
-			// Find the ear with largest signed area
-			float bestA = 0;// Float.NEGATIVE_INFINITY;
-			int bestI = 0;
-			for (int i = count - 2, j = count - 1, k = 0; k < count; ++k) {
-				float a = area(vertices[i], vertices[j], vertices[k]);
-				if (a > bestA) {
-					boolean empty = true;
-					for (int p = 0; p < count; ++p)
-						if (p != i && p != j && p != k && area(vertices[k], vertices[i], vertices[p]) >= 0.0f
-								&& area(vertices[i], vertices[j], vertices[p]) >= 0.0f
-								&& area(vertices[j], vertices[k], vertices[p]) >= 0.0f) {
-							empty = false;
-							break;
-						}
-					if (empty) {
-						bestA = a;
-						bestI = i;
-						break;
-					}
-				}
-				i = j;
-				j = k;
+		Ring ring = new Ring(vertices);
+		List<int[]> pieces = new ArrayList<>(count - 2);
+		int[] diagonals = new int[2 * (count - 3)];
+		int current = 0;
+		for (int remaining = count; remaining > 3; --remaining) {
+
+			// Find next ear, or clip anyway if polygon is degenerate
+			for (int skipped = 0; skipped < remaining && !ring.isEar(current); ++skipped)
+				current = ring.next[current];
+
+			// Save ear, and the diagonal it leaves behind
+			int a = ring.previous[current];
+			int b = ring.next[current];
+			pieces.add(new int[] {a, current, b});
+			diagonals[2 * (count - remaining)] = a;
+			diagonals[2 * (count - remaining) + 1] = b;
+			ring.remove(current);
+			current = b;
+		}
+		pieces.add(new int[] {ring.previous[current], current, ring.next[current]});
+
+		// Keep triangles and their area, used for sampling
+		areas = new float[pieces.size()];
+		for (int i = 0; i < pieces.size(); ++i) {
+			int[] piece = pieces.get(i);
+			Vector[] triangle = {vertices[piece[0]], vertices[piece[1]], vertices[piece[2]]};
+			triangles.add(triangle);
+			areas[i] = area(triangle);
+		}
+
+		// Merge triangles across diagonals while pieces stay convex, i.e. Hertel-Mehlhorn
+		Map<Long, Integer> owners = new HashMap<>();
+		for (int i = 0; i < pieces.size(); ++i)
+			own(owners, count, pieces.get(i), i);
+		for (int d = 0; d < diagonals.length; d += 2) {
+			int a = diagonals[d];
+			int b = diagonals[d + 1];
+			Integer p = owners.get(edge(count, a, b));
+			Integer q = owners.get(edge(count, b, a));
+			if (p == null || q == null)
+				continue;
+			int[] merged = merge(vertices, pieces.get(p), pieces.get(q), a, b);
+			if (merged != null) {
+				pieces.set(p, merged);
+				pieces.set(q, null);
+				owners.remove(edge(count, a, b));
+				owners.remove(edge(count, b, a));
+				own(owners, count, merged, p);
+			}
+		}
+
+		// Save convex parts
+		for (int[] piece : pieces)
+			if (piece != null) {
+				Vector[] component = new Vector[piece.length];
+				for (int i = 0; i < piece.length; ++i)
+					component[i] = vertices[piece[i]];
+				components.add(component);
 			}
+	}
+
+	// Doubly-linked vertex ring used by ear clipping, keeping a compact list of reflex vertices
+	private static final class Ring {
 
-			// Save concave part
-			Vector[] ear = new Vector[3];
-			for (int i = 0; i < 3; ++i)
-				ear[i] = vertices[(bestI + i) % count];
-			components.add(ear);
-
-			// Remove vertex
-			{
-				int i = (bestI + 2) % count;
-				if (i > 0)
-					for (; i < count; ++i)
-						vertices[i - 1] = vertices[i];
+		final Vector[] vertices;
+		final int[] previous;
+		final int[] next;
+		final int[] reflex;
+		final int[] slots;
+		final boolean[] ears;
+		int reflexCount;
+
+		Ring(Vector[] vertices) {
+			this.vertices = vertices;
+			int count = vertices.length;
+			previous = new int[count];
+			next = new int[count];
+			reflex = new int[count];
+			slots = new int[count];
+			ears = new boolean[count];
+			for (int i = 0; i < count; ++i) {
+				previous[i] = (i + count - 1) % count;
+				next[i] = (i + 1) % count;
+				slots[i] = -1;
 			}
-			--count;
+			for (int i = 0; i < count; ++i)
+				classify(i);
 		}
-        
-        // Compute triangles area, used for sampling
-        areas = new float[components.size()];
-        for (int i = 0; i < components.size(); ++i)
-            areas[i] = area(components.get(i));
+
+		// Update reflex list, a vertex that is not strictly convex being considered as reflex
+		void classify(int i) {
+			boolean concave = area(vertices[previous[i]], vertices[i], vertices[next[i]]) <= 0.0;
+			if (concave && slots[i] < 0) {
+				slots[i] = reflexCount;
+				reflex[reflexCount++] = i;
+			} else if (!concave && slots[i] >= 0)
+				unlist(i);
+			ears[i] = false;
+		}
+
+		// Remove from reflex list, by swapping with last one
+		void unlist(int i) {
+			int last = reflex[--reflexCount];
+			reflex[slots[i]] = last;
+			slots[last] = slots[i];
+			slots[i] = -1;
+		}
+
+		// Clip vertex, only its neighbours may change status
+		void remove(int j) {
+			if (slots[j] >= 0)
+				unlist(j);
+			int i = previous[j];
+			int k = next[j];
+			next[i] = k;
+			previous[k] = i;
+			classify(i);
+			classify(k);
+		}
+
+		// Check whether vertex can be clipped, only reflex vertices may lie inside a candidate ear
+		// An ear stays one until its neighbours change, as clipping only removes reflex vertices, but a vertex that is
+		// not an ear may become one whenever a reflex vertex is clipped or turns convex, hence only ears are cached
+		boolean isEar(int j) {
+			if (!ears[j])
+				ears[j] = slots[j] < 0 && isEmpty(previous[j], j, next[j]);
+			return ears[j];
+		}
+
+		// Check whether triangle contains no reflex vertex, borders included
+		boolean isEmpty(int i, int j, int k) {
+			Vector a = vertices[i];
+			Vector b = vertices[j];
+			Vector c = vertices[k];
+			float minX = Math.min(a.x, Math.min(b.x, c.x));
+			float minY = Math.min(a.y, Math.min(b.y, c.y));
+			float maxX = Math.max(a.x, Math.max(b.x, c.x));
+			float maxY = Math.max(a.y, Math.max(b.y, c.y));
+			for (int n = 0; n < reflexCount; ++n) {
+				int p = reflex[n];
+				Vector v = vertices[p];
+				if (p != i && p != k && v.x >= minX && v.x <= maxX && v.y >= minY && v.y <= maxY
+						&& area(c, a, v) >= 0.0 && area(a, b, v) >= 0.0 && area(b, c, v) >= 0.0)
+					return false;
+			}
+			return true;
+		}
+
+	}
+
+	// Compute directed edge key
+	private static long edge(int count, int a, int b) {
+		return (long) a * count + b;
+	}
+
+	// Register piece as owner of its directed edges
+	private static void own(Map<Long, Integer> owners, int count, int[] piece, int index) {
+		for (int i = piece.length - 1, j = 0; j < piece.length; i = j++)
+			owners.put(edge(count, piece[i], piece[j]), index);
+	}
+
+	// Merge pieces sharing diagonal, i.e. p contains a to b and q contains b to a, or return null if not convex
+	private static int[] merge(Vector[] vertices, int[] p, int[] q, int a, int b) {
+		if (p.length + q.length - 2 > Settings.maxPolygonVertices)
+			return null;
+		int pa = indexOf(p, a);
+		int pb = (pa + 1) % p.length;
+		int qb = indexOf(q, b);
+		int qa = (qb + 1) % q.length;
+
+		// Only angles at diagonal ends change
+		if (area(vertices[p[(pa + p.length - 1) % p.length]], vertices[a], vertices[q[(qa + 1) % q.length]]) <= 0.0)
+			return null;
+		if (area(vertices[q[(qb + q.length - 1) % q.length]], vertices[b], vertices[p[(pb + 1) % p.length]]) <= 0.0)
+			return null;
+
+		// Walk p from b to a, then q after a up to before b
+		int[] merged = new int[p.length + q.length - 2];
+		int n = 0;
+		for (int i = 0; i < p.length; ++i)
+			merged[n++] = p[(pb + i) % p.length];
+		for (int i = 1; i < q.length - 1; ++i)
+			merged[n++] = q[(qa + i) % q.length];
+		return merged;
+	}
+
+	// Find position of vertex in piece
+	private static int indexOf(int[] piece, int vertex) {
+		int i = 0;
+		while (piece[i] != vertex)
+			++i;
+		return i;
 	}
 
 	// Computes signed area of polygon, positive if counter-clockwise.
@@ -161,12 +312,13 @@ public final class Polygon extends Shape {
 		}
 	}
 
-	// Return double signed area
-	private static float area(Vector a, Vector b, Vector c) {
-		float abx = b.x - a.x;
-		float aby = b.y - a.y;
-		float acx = c.x - a.x;
-		float acy = c.y - a.y;
+	// Return double signed area, computed in double precision where differences and products of float coordinates
+	// are exact, as a nearly collinear vertex classified on the wrong side breaks the triangulation
+	private static double area(Vector a, Vector b, Vector c) {
+		double abx = (double) b.x - a.x;
+		double aby = (double) b.y - a.y;
+		double acx = (double) c.x - a.x;
+		double acy = (double) c.y - a.y;
 		return abx * acy - aby * acx;
 	}
     
@@ -187,6 +339,16 @@ public final class Polygon extends Shape {
 		return Collections.unmodifiableList(points);
 	}
 
+	// Triangles used for sampling, in counter-clockwise order
+	List<Vector[]> getTriangles() {
+		return triangles;
+	}
+
+	// Convex parts given to the physics engine, in counter-clockwise order
+	List<Vector[]> getComponents() {
+		return components;
+	}
+
     @Override
     public float getArea() {
         return area;
@@ -203,7 +365,7 @@ public final class Polygon extends Shape {
         // Sample uniform score, proportional to area
         float offset = random.nextFloat() * area;
         
-        // Find associated component (assumed to be a triangle)
+        // Find associated triangle
         int index = 0;
         while (offset > areas[index]) {
             offset -= areas[index];
@@ -219,7 +381,7 @@ public final class Polygon extends Shape {
         }
         
         // Compute actual location
-        Vector[] triangle = components.get(index);
+        Vector[] triangle = triangles.get(index);
         Vector a = triangle[0];
         Vector b = triangle[1];
         Vector c = triangle[2];
@@ -229,6 +391,11 @@ public final class Polygon extends Shape {
         );
     }
 
+    @Override
+    public Box getBounds() {
+        return bounds;
+    }
+
     @Override
     public Path2D toPath() {
 
@@ -0,0 +1,93 @@
+package ch.epfl.cs107.play.math;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks polygon decomposition, i.e. that triangles cover the polygon area and that parts are convex.
+ * Usage: <code>PolygonCheck [count]</code>, exits with a non-zero status on failure.
+ */
+public class PolygonCheck {
+
+    // Concave polygon whose triangulation used to overlap, when vertices that were not ears were never tested again
+    private static final float[] REGRESSION = {
+        71.2f, 41.4f, 59.4f, 36.3f, 87.5f, 49.9f, 49.2f, 46.2f, 62.2f, 66.6f, 32.9f, 74.6f, 1.9f, 94.6f, 21.9f, 96.0f,
+        37.5f, 96.0f, 80.2f, 81.6f, 91.8f, 89.4f, 98.1f, 51.3f, 99.3f, 9.9f, 23.9f, 1.6f, 21.0f, 1.4f, 15.7f, 13.9f,
+        1.8f, 23.2f, 1.8f, 93.6f, 10.5f, 74.0f, 4.8f, 78.0f, 20.1f, 24.7f, 50.4f, 21.5f, 55.7f, 22.9f
+    };
+
+    // Signed area, positive if counter-clockwise
+    private static double area(Vector[] vertices) {
+        double area = 0.0;
+        for (int i = 0; i < vertices.length; ++i) {
+            Vector a = vertices[i];
+            Vector b = vertices[(i + 1) % vertices.length];
+            area += (double) a.x * b.y - (double) b.x * a.y;
+        }
+        return 0.5 * area;
+    }
+
+    // Whether all turns are counter-clockwise, collinear vertices being tolerated
+    private static boolean isConvex(Vector[] vertices) {
+        for (int i = 0; i < vertices.length; ++i) {
+            Vector a = vertices[i];
+            Vector b = vertices[(i + 1) % vertices.length];
+            Vector c = vertices[(i + 2) % vertices.length];
+            double cross = (double) (b.x - a.x) * (c.y - a.y) - (double) (b.y - a.y) * (c.x - a.x);
+            if (cross < -1E-3)
+                return false;
+        }
+        return true;
+    }
+
+    // Star-shaped polygon with jittered angles, which is simple as gaps stay below a half turn, but usually concave
+    private static Polygon star(Random random, int count) {
+        List<Vector> points = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            float angle = (i + 0.9f * random.nextFloat()) * 2.0f * (float) Math.PI / count;
+            float radius = 10.0f + 90.0f * random.nextFloat();
+            points.add(new Vector(radius * (float) Math.cos(angle), radius * (float) Math.sin(angle)));
+        }
+        return new Polygon(points);
+    }
+
+    // Check specified polygon, printing failures
+    private static boolean check(String name, Polygon polygon) {
+        double expected = Math.abs(area(polygon.getPoints().toArray(new Vector[0])));
+        double triangles = 0.0;
+        for (Vector[] triangle : polygon.getTriangles())
+            triangles += Math.abs(area(triangle));
+        double components = 0.0;
+        boolean convex = true;
+        for (Vector[] component : polygon.getComponents()) {
+            components += Math.abs(area(component));
+            convex &= component.length <= 8 && isConvex(component) && area(component) >= 0.0;
+        }
+        double tolerance = 1E-4 * expected + 1E-3;
+        boolean valid = convex && Math.abs(triangles - expected) <= tolerance && Math.abs(components - expected) <= tolerance;
+        if (!valid)
+            System.out.println(String.format("%s: area %.1f, triangles %.1f, components %.1f, convex %b",
+                    name, expected, triangles, components, convex));
+        return valid;
+    }
+
+    /**
+     * Check entry point.
+     * @param args optional count of random polygons
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int failures = 0;
+        if (!check("regression", new Polygon(REGRESSION)))
+            ++failures;
+        Random random = new Random(0);
+        for (int i = 0; i < count; ++i)
+            if (!check("star " + i, star(random, 4 + random.nextInt(40))))
+                ++failures;
+        System.out.println(String.format("%d polygons, %d failures", count + 1, failures));
+        if (failures > 0)
+            System.exit(1);
+    }
+
+}
@@ -6,7 +6,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
-import org.jbox2d.collision.shapes.EdgeShape;
+import org.jbox2d.collision.shapes.ChainShape;
+import org.jbox2d.common.Settings;
+import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Fixture;
 import org.jbox2d.dynamics.FixtureDef;
 
@@ -17,8 +19,11 @@ public final class Polyline extends Shape {
 
     private final boolean closed;
     private final List<Vector> points;
+    private Vector previous;
+    private Vector next;
     private float[] lengths;
     private float length;
+    private Box bounds;
     
     /**
      * Creates a new polyline.
@@ -41,6 +46,19 @@ public final class Polyline extends Shape {
         this(false, points);
     }
     
+    /**
+     * Creates a new open polyline, continued by neighbouring geometry.
+     * Neighbour points are not part of the polyline, but avoid bumps where it meets adjacent polylines.
+     * @param previous point before the first one, may be null
+     * @param points at least two points, not null
+     * @param next point after the last one, may be null
+     */
+    public Polyline(Vector previous, List<Vector> points, Vector next) {
+        this(false, points);
+        this.previous = previous;
+        this.next = next;
+    }
+    
     /**
      * Creates a new polyline.
      * @param closed whether last point is connected to the first one
@@ -85,6 +103,7 @@ public final class Polyline extends Shape {
     
     // Internal helper used to compute additional properties
     private void initialize() {
+        bounds = Box.of(points);
         int count = points.size();
         length = 0.0f;
         lengths = new float[count];
@@ -139,6 +158,11 @@ public final class Polyline extends Shape {
         return start.mixed(end, offset / lengths[index]);
     }
 
+    @Override
+    public Box getBounds() {
+        return bounds;
+    }
+
     @Override
     public Path2D toPath() {
 
@@ -167,55 +191,36 @@ public final class Polyline extends Shape {
         fixtureDef.userData = part;
         part.fixtures = new ArrayList<>();
         
-        // For each segment
-        EdgeShape shape = new EdgeShape();
-        fixtureDef.shape = shape;
-        int size = points.size();
-        Vector point;
-        if (closed) {
-            shape.m_hasVertex0 = true;
-            shape.m_hasVertex3 = true;
-            for (int i = 0; i < size; ++i) {
-                
-                // Define vertices
-                point = points.get(i);
-                shape.m_vertex0.set(point.x, point.y);
-                point = points.get((i + 1) % size);
-                shape.m_vertex1.set(point.x, point.y);
-                point = points.get((i + 2) % size);
-                shape.m_vertex2.set(point.x, point.y);
-                point = points.get((i + 3) % size);
-                shape.m_vertex3.set(point.x, point.y);
-                
-                // Instanciate fixture
-                Fixture fixture = entity.body.createFixture(fixtureDef);
-                part.fixtures.add(fixture);
-            }
-            
-        } else {
-            for (int i = 1; i < size; ++i) {
-
-                // Define vertices
-                shape.m_hasVertex0 = i > 1;
-                if (shape.m_hasVertex0) {
-                    point = points.get(i - 2);
-                    shape.m_vertex0.set(point.x, point.y);
-                }
-                point = points.get(i - 1);
-                shape.m_vertex1.set(point.x, point.y);
-                point = points.get(i);
-                shape.m_vertex2.set(point.x, point.y);    
-                shape.m_hasVertex3 = i < size - 1;
-                if (shape.m_hasVertex3) {
-                    point = points.get(i + 1);
-                    shape.m_vertex3.set(point.x, point.y);
-                }
-
-                // Instanciate fixture
-                Fixture fixture = entity.body.createFixture(fixtureDef);
-                part.fixtures.add(fixture);
-            }
+        // Weld nearly coincident points, as chains require distinct vertices
+        List<Vector> welded = new ArrayList<>(points.size());
+        for (Vector point : points)
+            if (welded.isEmpty() || point.sub(welded.get(welded.size() - 1)).getLength() > Settings.linearSlop)
+                welded.add(point);
+        if (closed && welded.size() > 2 && welded.get(0).sub(welded.get(welded.size() - 1)).getLength() <= Settings.linearSlop)
+            welded.remove(welded.size() - 1);
+        int count = welded.size();
+        if (count < 2)
+            throw new IllegalArgumentException("At least two distinct points are required");
+        Vec2[] vertices = new Vec2[count];
+        for (int i = 0; i < count; ++i) {
+            Vector point = welded.get(i);
+            vertices[i] = new Vec2(point.x, point.y);
+        }
+        
+        // Use a single chain fixture, whose child edges share ghost vertices
+        ChainShape shape = new ChainShape();
+        if (closed && count > 2)
+            shape.createLoop(vertices, count);
+        else {
+            shape.createChain(vertices, count);
+            if (previous != null)
+                shape.setPrevVertex(new Vec2(previous.x, previous.y));
+            if (next != null)
+                shape.setNextVertex(new Vec2(next.x, next.y));
         }
+        fixtureDef.shape = shape;
+        Fixture fixture = entity.body.createFixture(fixtureDef);
+        part.fixtures.add(fixture);
         return part;
     }
     
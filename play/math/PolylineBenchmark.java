@@ -0,0 +1,131 @@
+package ch.epfl.cs107.play.math;
+
+import java.awt.geom.Path2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jbox2d.collision.shapes.EdgeShape;
+import org.jbox2d.dynamics.FixtureDef;
+
+/**
+ * Compares step time of a terrain made of one edge fixture per segment against a single chain fixture.
+ * Usage: <code>PolylineBenchmark [steps] [bodies]</code>.
+ */
+public class PolylineBenchmark {
+
+    // Terrain made of independent edges, as polylines used to be built
+    private static class EdgePolyline extends Shape {
+
+        private final Polyline line;
+
+        EdgePolyline(Polyline line) {
+            this.line = line;
+        }
+
+        @Override
+        public float getArea() {
+            return 0.0f;
+        }
+
+        @Override
+        public float getPerimeter() {
+            return line.getPerimeter();
+        }
+
+        @Override
+        public Vector sample(Random random) {
+            return line.sample(random);
+        }
+
+        @Override
+        public Box getBounds() {
+            return line.getBounds();
+        }
+
+        @Override
+        public Path2D toPath() {
+            return line.toPath();
+        }
+
+        @Override
+        Part build(FixtureDef fixtureDef, Entity entity) {
+            Part part = new Part();
+            part.entity = entity;
+            fixtureDef.userData = part;
+            part.fixtures = new ArrayList<>();
+            EdgeShape shape = new EdgeShape();
+            fixtureDef.shape = shape;
+            List<Vector> points = line.getPoints();
+            for (int i = 1; i < points.size(); ++i) {
+                shape.m_hasVertex0 = i > 1;
+                if (shape.m_hasVertex0)
+                    shape.m_vertex0.set(points.get(i - 2).x, points.get(i - 2).y);
+                shape.m_vertex1.set(points.get(i - 1).x, points.get(i - 1).y);
+                shape.m_vertex2.set(points.get(i).x, points.get(i).y);
+                shape.m_hasVertex3 = i < points.size() - 1;
+                if (shape.m_hasVertex3)
+                    shape.m_vertex3.set(points.get(i + 1).x, points.get(i + 1).y);
+                part.fixtures.add(entity.body.createFixture(fixtureDef));
+            }
+            return part;
+        }
+
+    }
+
+    // Bumpy ground with one point per meter, similar to hand-made levels
+    private static Polyline terrain(int length) {
+        Random random = new Random(0);
+        List<Vector> points = new ArrayList<>(length + 3);
+        points.add(new Vector(-10.0f, -100.0f));
+        for (int x = -10; x <= length; ++x)
+            points.add(new Vector(x, 0.5f * (float) Math.sin(x * 0.1f) + 0.1f * random.nextFloat()));
+        points.add(new Vector(length, -100.0f));
+        return new Polyline(points);
+    }
+
+    // Step a world with wheels rolling on specified terrain, returning average step time in microseconds
+    private static double run(Shape ground, int steps, int bodies, int length) {
+        World world = new World();
+        world.setGravity(new Vector(0.0f, -9.81f));
+        EntityBuilder builder = world.createEntityBuilder();
+        builder.setFixed(true);
+        Entity entity = builder.build();
+        PartBuilder partBuilder = entity.createPartBuilder();
+        partBuilder.setShape(ground);
+        partBuilder.build();
+        builder.setFixed(false);
+        for (int i = 0; i < bodies; ++i) {
+            builder.setPosition(new Vector((i + 0.5f) * length / bodies, 2.0f));
+            builder.setVelocity(new Vector(8.0f, 0.0f));
+            Entity wheel = builder.build();
+            partBuilder = wheel.createPartBuilder();
+            partBuilder.setShape(new Circle(0.5f));
+            partBuilder.build();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; ++i)
+            world.update(1.0f / 60.0f);
+        return (System.nanoTime() - start) * 1E-3 / steps;
+    }
+
+    /**
+     * Benchmark entry point.
+     * @param args optional step count and body count
+     */
+    public static void main(String[] args) {
+        int steps = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int bodies = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+        // Tutorial level is about 1000 meters long
+        for (int pass = 0; pass < 2; ++pass)
+            for (int length : new int[] {1000, 10000}) {
+                Polyline line = terrain(length);
+                double edges = run(new EdgePolyline(line), steps, bodies, length);
+                double chain = run(line, steps, bodies, length);
+                if (pass > 0)
+                    System.out.println(String.format("%d segments, %d bodies, edges %.1f us per step, chain %.1f us per step",
+                            line.getPoints().size() - 1, bodies, edges, chain));
+            }
+    }
+
+}
@@ -8,6 +8,15 @@ public interface Positionable {
     /** @return affine transform, not null */
     public Transform getTransform();
     
+    /**
+     * Gets the transform to use for rendering, which may be interpolated between simulation steps.
+     * By default, it is the same as the actual transform.
+     * @return affine transform, not null
+     */
+    public default Transform getRenderTransform() {
+        return getTransform();
+    }
+    
     /** @return origin, not null */
     public default Vector getPosition() {
         return getTransform().getOrigin();
@@ -11,6 +11,9 @@ public abstract class Shape {
     // Used for default sampling
     private static final Random RANDOM = new Random();
     
+    // Lazily built drawing path, shapes being immutable
+    private volatile java.awt.Shape path;
+    
     /** @return shape area */
     public abstract float getArea();
     
@@ -35,9 +38,22 @@ public abstract class Shape {
         return sample(RANDOM);
     }
     
-    /** @return AWT path used for drawing */
+    /** @return axis-aligned bounding box, in local coordinates, not null */
+    public abstract Box getBounds();
+    
+    /** @return AWT path used for drawing, as a new modifiable copy */
     public abstract Path2D toPath();
     
+    /** @return cached AWT path used for drawing, shared and read-only, not null */
+    public java.awt.Shape getPath() {
+        java.awt.Shape result = path;
+        if (result == null) {
+            result = toPath();
+            path = result;
+        }
+        return result;
+    }
+    
     // Internal part builder
     abstract Part build(org.jbox2d.dynamics.FixtureDef fixtureDef, Entity entity);
 }
@@ -0,0 +1,75 @@
+package ch.epfl.cs107.play.math;
+
+/**
+ * Reusable container for a single ray casting result, filled by world trace queries.
+ */
+public final class TraceResult {
+
+    Part part;
+    float x;
+    float y;
+    float normalX;
+    float normalY;
+    float fraction;
+
+    /** Creates a new empty result. */
+    public TraceResult() {
+        reset();
+    }
+
+    // Internal helper, called before each query
+    void reset() {
+        part = null;
+        x = 0.0f;
+        y = 0.0f;
+        normalX = 0.0f;
+        normalY = 0.0f;
+        fraction = 1.0f;
+    }
+
+    /** @return whether something was hit */
+    public boolean hasHit() {
+        return part != null;
+    }
+
+    /** @return hit part, null if nothing was hit */
+    public Part getPart() {
+        return part;
+    }
+
+    /** @return impact abscissa */
+    public float getX() {
+        return x;
+    }
+
+    /** @return impact ordinate */
+    public float getY() {
+        return y;
+    }
+
+    /** @return impact normal abscissa */
+    public float getNormalX() {
+        return normalX;
+    }
+
+    /** @return impact normal ordinate */
+    public float getNormalY() {
+        return normalY;
+    }
+
+    /** @return ray fraction at impact location, 1 if nothing was hit */
+    public float getFraction() {
+        return fraction;
+    }
+
+    /** @return impact location, not null */
+    public Vector getPosition() {
+        return new Vector(x, y);
+    }
+
+    /** @return impact normal, not null */
+    public Vector getNormal() {
+        return new Vector(normalX, normalY);
+    }
+
+}
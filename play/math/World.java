@@ -1,21 +1,30 @@
 package ch.epfl.cs107.play.math;
 
 import java.util.AbstractSequentialList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import org.jbox2d.callbacks.ContactImpulse;
+import org.jbox2d.callbacks.QueryCallback;
 import org.jbox2d.callbacks.RayCastCallback;
+import org.jbox2d.collision.AABB;
 import org.jbox2d.collision.Manifold;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyType;
 import org.jbox2d.dynamics.Fixture;
 import org.jbox2d.dynamics.joints.Joint;
+import org.jbox2d.dynamics.joints.PrismaticJoint;
+import org.jbox2d.dynamics.joints.RevoluteJoint;
+import org.jbox2d.dynamics.joints.WheelJoint;
 
 /**
  * Contains a whole physical world.
@@ -25,10 +34,22 @@ public class World {
     // Box2D world, not null
     org.jbox2d.dynamics.World world;
     
+    // Simulation parameters
+    private WorldSettings settings;
+    
     // Elapsed time
-    private final float timeStep;
     private float timeAccumulator;
     
+    // Statistics of last update
+    private int subStepCount;
+    private float droppedTime;
+    
+    // Whether next step must ignore impulses of previous steps, after a snapshot restore
+    private boolean coldStep;
+    
+    // Reused by snapshot restore, to avoid allocations
+    private final Vec2 restorePosition = new Vec2();
+    
     // Iterate over entity linked list
     class EntityListIterator implements ListIterator<Entity> {
 
@@ -117,22 +138,43 @@ public class World {
     // Entity list proxy
     EntityList entities = new EntityList();
     
-    // Internal contact container
+    // Internal contact container, recycled through a pool
     static class ContactContainer {
-        Contact first;
-        Contact second;
+        final Contact first = new Contact();
+        final Contact second = new Contact();
+        Entity firstEntity;
+        Entity secondEntity;
+        int firstCategories;
+        int secondCategories;
     }
     
-    // Mapping between vanilla contacts and simplified proxies
+    // Mapping between vanilla contacts and simplified proxies, only for contacts with listeners
     private Map<org.jbox2d.dynamics.contacts.Contact, ContactContainer> contacts;
     
-    /** Creates a new empty world. */
+    // Released containers, ready to be reused
+    private ArrayDeque<ContactContainer> containerPool;
+    
+    // Pending contact events, delivered after each step
+    private ContactContainer[] eventContainers;
+    private boolean[] eventBegins;
+    private int eventCount;
+    private boolean dispatching;
+    
+    /** Creates a new empty world, using default settings. */
     public World() {
+        this(new WorldSettings());
+    }
+    
+    /**
+     * Creates a new empty world.
+     * @param settings simulation parameters, copied, not null
+     */
+    public World(WorldSettings settings) {
         
         // Prepare internal state
         world = new org.jbox2d.dynamics.World(new Vec2(0.0f, 0.0f));
         world.setAutoClearForces(false);
-        timeStep = 1.0f / 120.0f;
+        setSettings(settings);
         
         // Add destruction listener to remove proxies on indirect deletion
         world.setDestructionListener(new org.jbox2d.callbacks.DestructionListener() {
@@ -151,50 +193,54 @@ public class World {
             
         });
         
-        // Add contact listener to cache events
-        contacts = new HashMap<>();
+        // Add contact listener to queue events
+        contacts = new IdentityHashMap<>();
+        containerPool = new ArrayDeque<>();
+        eventContainers = new ContactContainer[16];
+        eventBegins = new boolean[16];
         world.setContactListener(new org.jbox2d.callbacks.ContactListener() {
             
             @Override
             public void beginContact(org.jbox2d.dynamics.contacts.Contact contact) {
                 
-                // Only keep contacts that have listeners
-                List<ContactListener> first = ((Part)contact.m_fixtureA.m_userData).entity.contactListeners;
-                List<ContactListener> second = ((Part)contact.m_fixtureB.m_userData).entity.contactListeners;
-                if (first.isEmpty() && second.isEmpty())
+                // Only keep contacts that have interested listeners
+                Part first = (Part)contact.m_fixtureA.m_userData;
+                Part second = (Part)contact.m_fixtureB.m_userData;
+                int firstCategories = contact.m_fixtureA.m_filter.categoryBits;
+                int secondCategories = contact.m_fixtureB.m_filter.categoryBits;
+                if ((first.entity.contactMask & secondCategories) == 0 && (second.entity.contactMask & firstCategories) == 0)
                     return;
                 
-                // Create contact proxies
-                ContactContainer container = new ContactContainer();
-                container.first = new Contact((Part)contact.m_fixtureA.m_userData, (Part)contact.m_fixtureB.m_userData);
-                container.second = new Contact((Part)contact.m_fixtureB.m_userData, (Part)contact.m_fixtureA.m_userData);
+                // Bind recycled contact proxies
+                ContactContainer container = containerPool.poll();
+                if (container == null)
+                    container = new ContactContainer();
+                container.first.owner = first;
+                container.first.other = second;
+                container.first.alive = true;
+                container.second.owner = second;
+                container.second.other = first;
+                container.second.alive = true;
+                container.firstEntity = first.entity;
+                container.secondEntity = second.entity;
+                container.firstCategories = firstCategories;
+                container.secondCategories = secondCategories;
                 contacts.put(contact, container);
                 
-                // Notify
-                for (ContactListener listener : first)
-                    listener.beginContact(container.first);
-                for (ContactListener listener : second)
-                    listener.beginContact(container.second);
+                // Notify later
+                enqueue(container, true);
             }
 
             @Override
             public void endContact(org.jbox2d.dynamics.contacts.Contact contact) {
                 
                 // Check that we actually know about this one
-                ContactContainer container = contacts.get(contact);
+                ContactContainer container = contacts.remove(contact);
                 if (container == null)
                     return;
                 
-                // Notify and unregister
-                List<ContactListener> first = ((Part)contact.m_fixtureA.m_userData).entity.contactListeners;
-                List<ContactListener> second = ((Part)contact.m_fixtureB.m_userData).entity.contactListeners;
-                for (ContactListener listener : first)
-                    listener.endContact(container.first);
-                for (ContactListener listener : second)
-                    listener.endContact(container.second);
-                container.first.alive = false;
-                container.second.alive = false;
-                contacts.remove(contact);
+                // Notify later, vanilla contact may be recycled meanwhile
+                enqueue(container, false);
             }
 
             @Override
@@ -207,6 +253,86 @@ public class World {
         
     }
     
+    // Add contact event to queue, and deliver it at once if not simulating
+    private void enqueue(ContactContainer container, boolean begin) {
+        if (eventCount == eventContainers.length) {
+            eventContainers = Arrays.copyOf(eventContainers, eventCount * 2);
+            eventBegins = Arrays.copyOf(eventBegins, eventCount * 2);
+        }
+        eventContainers[eventCount] = container;
+        eventBegins[eventCount] = begin;
+        ++eventCount;
+        if (!world.isLocked())
+            dispatchContacts();
+    }
+    
+    // Deliver pending contact events, including those raised by listeners themselves
+    private void dispatchContacts() {
+        if (dispatching)
+            return;
+        dispatching = true;
+        try {
+            for (int e = 0; e < eventCount; ++e) {
+                ContactContainer container = eventContainers[e];
+                eventContainers[e] = null;
+                
+                // Listener arrays are never modified, hence listeners may add or remove listeners meanwhile
+                Entity.ContactRegistration[] first = container.firstEntity.contactListeners;
+                Entity.ContactRegistration[] second = container.secondEntity.contactListeners;
+                if (eventBegins[e]) {
+                    for (Entity.ContactRegistration registration : first)
+                        if ((registration.mask & container.secondCategories) != 0)
+                            registration.listener.beginContact(container.first);
+                    for (Entity.ContactRegistration registration : second)
+                        if ((registration.mask & container.firstCategories) != 0)
+                            registration.listener.beginContact(container.second);
+                } else {
+                    for (Entity.ContactRegistration registration : first)
+                        if ((registration.mask & container.secondCategories) != 0)
+                            registration.listener.endContact(container.first);
+                    for (Entity.ContactRegistration registration : second)
+                        if ((registration.mask & container.firstCategories) != 0)
+                            registration.listener.endContact(container.second);
+                    
+                    // Recycle proxies
+                    container.first.alive = false;
+                    container.second.alive = false;
+                    container.firstEntity = null;
+                    container.secondEntity = null;
+                    containerPool.push(container);
+                }
+            }
+        } finally {
+            eventCount = 0;
+            dispatching = false;
+        }
+    }
+    
+    /** @return a copy of simulation parameters, not null */
+    public WorldSettings getSettings() {
+        return new WorldSettings(settings);
+    }
+    
+    /**
+     * Sets simulation parameters, used from next update.
+     * @param settings simulation parameters, copied, not null
+     */
+    public void setSettings(WorldSettings settings) {
+        this.settings = new WorldSettings(settings);
+        world.setWarmStarting(settings.isWarmStarting());
+        world.setContinuousPhysics(settings.isContinuousCollision());
+    }
+    
+    /** @return number of steps simulated during last update */
+    public int getSubStepCount() {
+        return subStepCount;
+    }
+    
+    /** @return simulation time discarded during last update because of step budget, in seconds */
+    public float getDroppedTime() {
+        return droppedTime;
+    }
+    
     /** @return global force, not null */
     public Vector getGravity() {
         Vec2 gravity = world.getGravity();
@@ -280,6 +406,104 @@ public class World {
         return entities;
     }
     
+    /**
+     * Records the state of movable entities and constraint motors.
+     * @param snapshot snapshot to overwrite, its storage is reused, not null
+     */
+    public void capture(WorldSnapshot snapshot) {
+        snapshot.reset(this);
+        for (Body body = world.getBodyList(); body != null; body = body.m_next) {
+            if (body.m_type == BodyType.STATIC)
+                continue;
+            int offset = snapshot.addEntity((Entity)body.m_userData);
+            float[] states = snapshot.entityStates;
+            states[offset] = body.m_xf.p.x;
+            states[offset + 1] = body.m_xf.p.y;
+            states[offset + 2] = body.m_sweep.a;
+            states[offset + 3] = body.m_linearVelocity.x;
+            states[offset + 4] = body.m_linearVelocity.y;
+            states[offset + 5] = body.m_angularVelocity;
+            states[offset + 6] = body.isAwake() ? body.m_sleepTime : -1.0f;
+        }
+        for (Joint joint = world.getJointList(); joint != null; joint = joint.getNext()) {
+            float speed;
+            boolean enabled;
+            if (joint instanceof WheelJoint) {
+                speed = ((WheelJoint)joint).getMotorSpeed();
+                enabled = ((WheelJoint)joint).isMotorEnabled();
+            } else if (joint instanceof RevoluteJoint) {
+                speed = ((RevoluteJoint)joint).getMotorSpeed();
+                enabled = ((RevoluteJoint)joint).isMotorEnabled();
+            } else if (joint instanceof PrismaticJoint) {
+                speed = ((PrismaticJoint)joint).getMotorSpeed();
+                enabled = ((PrismaticJoint)joint).isMotorEnabled();
+            } else
+                continue;
+            int offset = snapshot.addConstraint((Constraint)joint.m_userData);
+            snapshot.constraintStates[offset] = speed;
+            snapshot.constraintStates[offset + 1] = enabled ? 1.0f : 0.0f;
+        }
+    }
+    
+    /** @return a new snapshot of movable entities and constraint motors */
+    public WorldSnapshot capture() {
+        WorldSnapshot snapshot = new WorldSnapshot();
+        capture(snapshot);
+        return snapshot;
+    }
+    
+    /**
+     * Restores a snapshot in place, without creating entities nor allocating memory.
+     * Entities and constraints destroyed since capture are ignored, those created since are left untouched.
+     * Solver impulses are not recorded, hence next step does not reuse those of previous steps.
+     * @param snapshot snapshot captured from this world, not null
+     */
+    public void restore(WorldSnapshot snapshot) {
+        if (snapshot.world != this)
+            throw new IllegalArgumentException("Snapshot was not captured from this world");
+        float[] states = snapshot.entityStates;
+        for (int i = 0; i < snapshot.entityCount; ++i) {
+            Entity entity = snapshot.entities[i];
+            if (entity.world != this)
+                continue;
+            Body body = entity.body;
+            int offset = i * WorldSnapshot.ENTITY_STRIDE;
+            restorePosition.set(states[offset], states[offset + 1]);
+            body.setTransform(restorePosition, states[offset + 2]);
+            body.setAwake(states[offset + 6] >= 0.0f);
+            body.m_linearVelocity.set(states[offset + 3], states[offset + 4]);
+            body.m_angularVelocity = states[offset + 5];
+            body.m_sleepTime = Math.max(0.0f, states[offset + 6]);
+            
+            // Teleport, do not interpolate from current location
+            entity.transform = null;
+            entity.capturePrevious();
+            entity.renderTransform = null;
+        }
+        states = snapshot.constraintStates;
+        for (int i = 0; i < snapshot.constraintCount; ++i) {
+            Constraint constraint = snapshot.constraints[i];
+            if (constraint.world != this)
+                continue;
+            Joint joint = constraint.joint;
+            int offset = i * WorldSnapshot.CONSTRAINT_STRIDE;
+            float speed = states[offset];
+            boolean enabled = states[offset + 1] != 0.0f;
+            if (joint instanceof WheelJoint) {
+                ((WheelJoint)joint).setMotorSpeed(speed);
+                ((WheelJoint)joint).enableMotor(enabled);
+            } else if (joint instanceof RevoluteJoint) {
+                ((RevoluteJoint)joint).setMotorSpeed(speed);
+                ((RevoluteJoint)joint).enableMotor(enabled);
+            } else if (joint instanceof PrismaticJoint) {
+                ((PrismaticJoint)joint).setMotorSpeed(speed);
+                ((PrismaticJoint)joint).enableMotor(enabled);
+            }
+        }
+        world.clearForces();
+        coldStep = true;
+    }
+    
     // Internal comparator used to order impacts from nearest to farest
     private static final Comparator<Impact> TRACE_IMPACT_COMPARATOR = new Comparator<Impact>() {
         @Override
@@ -316,8 +540,214 @@ public class World {
         return impacts;
     }
     
+    // Reusable ray casting callback, storing accepted hits in current result
+    private class TraceCallback implements RayCastCallback {
+        
+        TraceResult result;
+        int mask;
+        boolean any;
+        
+        @Override
+        public float reportFixture(Fixture fixture, Vec2 point, Vec2 normal, float fraction) {
+            
+            // Ignore filtered categories, and continue
+            if ((fixture.m_filter.categoryBits & mask) == 0)
+                return -1.0f;
+            result.part = (Part)fixture.m_userData;
+            result.x = point.x;
+            result.y = point.y;
+            result.normalX = normal.x;
+            result.normalY = normal.y;
+            result.fraction = fraction;
+            
+            // Either stop now, or only look for nearer hits
+            return any ? 0.0f : fraction;
+        }
+        
+    }
+    
+    // Trace query state, reused to avoid allocations
+    private final TraceCallback traceCallback = new TraceCallback();
+    private final Vec2 traceStart = new Vec2();
+    private final Vec2 traceEnd = new Vec2();
+    
+    // Internal helper for single ray queries
+    private boolean trace(float startX, float startY, float endX, float endY, int mask, boolean any, TraceResult result) {
+        result.reset();
+        traceCallback.result = result;
+        traceCallback.mask = mask;
+        traceCallback.any = any;
+        traceStart.set(startX, startY);
+        traceEnd.set(endX, endY);
+        world.raycast(traceCallback, traceStart, traceEnd);
+        traceCallback.result = null;
+        return result.part != null;
+    }
+    
+    /**
+     * Finds the nearest part that intersects a segment, without allocation.
+     * @param startX origin abscissa
+     * @param startY origin ordinate
+     * @param endX end point abscissa
+     * @param endY end point ordinate
+     * @param mask bitfield specifying which collision signatures can be hit
+     * @param result reusable output, not null
+     * @return whether something was hit
+     */
+    public boolean traceClosest(float startX, float startY, float endX, float endY, int mask, TraceResult result) {
+        return trace(startX, startY, endX, endY, mask, false, result);
+    }
+    
+    /**
+     * Finds the nearest part that intersects a segment.
+     * @param start the origin of the segment, not null
+     * @param end the end point, not null
+     * @param result reusable output, not null
+     * @return whether something was hit
+     */
+    public boolean traceClosest(Vector start, Vector end, TraceResult result) {
+        return trace(start.x, start.y, end.x, end.y, -1, false, result);
+    }
+    
+    /**
+     * Finds any part that intersects a segment, stopping at the first one found, without allocation.
+     * @param startX origin abscissa
+     * @param startY origin ordinate
+     * @param endX end point abscissa
+     * @param endY end point ordinate
+     * @param mask bitfield specifying which collision signatures can be hit
+     * @param result reusable output, not null
+     * @return whether something was hit
+     */
+    public boolean traceAny(float startX, float startY, float endX, float endY, int mask, TraceResult result) {
+        return trace(startX, startY, endX, endY, mask, true, result);
+    }
+    
+    /**
+     * Finds any part that intersects a segment, stopping at the first one found.
+     * @param start the origin of the segment, not null
+     * @param end the end point, not null
+     * @param result reusable output, not null
+     * @return whether something was hit
+     */
+    public boolean traceAny(Vector start, Vector end, TraceResult result) {
+        return trace(start.x, start.y, end.x, end.y, -1, true, result);
+    }
+    
+    /**
+     * Finds the nearest hit for many segments at once, without allocation.
+     * @param segments packed segments, i.e. start abscissa, start ordinate, end abscissa and end ordinate for each one, not null
+     * @param results reusable outputs, one per segment, not null
+     * @param mask bitfield specifying which collision signatures can be hit
+     * @return number of segments that hit something
+     */
+    public int traceClosest(float[] segments, TraceResult[] results, int mask) {
+        return trace(segments, results, mask, false);
+    }
+    
+    /**
+     * Finds any hit for many segments at once, without allocation.
+     * @param segments packed segments, i.e. start abscissa, start ordinate, end abscissa and end ordinate for each one, not null
+     * @param results reusable outputs, one per segment, not null
+     * @param mask bitfield specifying which collision signatures can be hit
+     * @return number of segments that hit something
+     */
+    public int traceAny(float[] segments, TraceResult[] results, int mask) {
+        return trace(segments, results, mask, true);
+    }
+    
+    // Internal helper for batch queries
+    private int trace(float[] segments, TraceResult[] results, int mask, boolean any) {
+        if (segments.length % 4 != 0)
+            throw new IllegalArgumentException("Four coordinates per segment are expected");
+        int count = segments.length / 4;
+        if (results.length < count)
+            throw new IllegalArgumentException("One result per segment is expected");
+        int hits = 0;
+        for (int i = 0, j = 0; i < count; ++i, j += 4)
+            if (trace(segments[j], segments[j + 1], segments[j + 2], segments[j + 3], mask, any, results[i]))
+                ++hits;
+        return hits;
+    }
+    
+    // Reusable broadphase callback, forwarding each new part to current consumer
+    private class RegionCallback implements QueryCallback {
+        
+        Consumer<? super Part> consumer;
+        int mask;
+        
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            
+            // Ignore filtered categories and parts already reported by another fixture
+            if ((fixture.m_filter.categoryBits & mask) == 0)
+                return true;
+            Part part = (Part)fixture.m_userData;
+            if (part.queryStamp == queryStamp)
+                return true;
+            part.queryStamp = queryStamp;
+            consumer.accept(part);
+            return true;
+        }
+        
+    }
+    
+    // Region query state, reused to avoid allocations
+    private final RegionCallback regionCallback = new RegionCallback();
+    private final AABB regionBounds = new AABB();
+    private int queryStamp;
+    
+    /**
+     * Finds parts whose bounding box overlaps a rectangular region, using the broadphase tree.
+     * Each part is reported once. Bounding boxes are conservative, hence parts slightly outside may be reported.
+     * Queries must not be nested, i.e. the consumer cannot call this method.
+     * @param minX region lower abscissa
+     * @param minY region lower ordinate
+     * @param maxX region upper abscissa
+     * @param maxY region upper ordinate
+     * @param mask bitfield specifying which collision signatures are reported
+     * @param consumer called for each part found, not null
+     */
+    public void query(float minX, float minY, float maxX, float maxY, int mask, Consumer<? super Part> consumer) {
+        if (consumer == null)
+            throw new NullPointerException();
+        if (regionCallback.consumer != null)
+            throw new IllegalStateException("Region queries cannot be nested");
+        ++queryStamp;
+        regionCallback.consumer = consumer;
+        regionCallback.mask = mask;
+        regionBounds.lowerBound.set(minX, minY);
+        regionBounds.upperBound.set(maxX, maxY);
+        try {
+            world.queryAABB(regionCallback, regionBounds);
+        } finally {
+            regionCallback.consumer = null;
+        }
+    }
+    
+    /**
+     * Finds parts whose bounding box overlaps a rectangular region, using the broadphase tree.
+     * @param min region lower corner, not null
+     * @param max region upper corner, not null
+     * @param consumer called for each part found, not null
+     * @see #query(float, float, float, float, int, Consumer)
+     */
+    public void query(Vector min, Vector max, Consumer<? super Part> consumer) {
+        query(min.x, min.y, max.x, max.y, -1, consumer);
+    }
+    
+    /**
+     * Gets the fraction of a time step not yet simulated, used to interpolate rendering.
+     * Rendered transforms are blended between the two last simulated states using this factor.
+     * @return residual time divided by time step, between 0 and 1
+     */
+    public float getInterpolationFactor() {
+        return Math.min(1.0f, timeAccumulator / settings.getTimeStep());
+    }
+    
     /**
      * Simulates a single step.
+     * At most {@link WorldSettings#getMaxSubSteps()} steps are simulated, exceeding time is handled according to {@link WorldSettings#getOverflow()}.
      * @param deltaTime time elapsed since last update, non-negative
      */
     public void update(float deltaTime) {
@@ -325,19 +755,65 @@ public class World {
         // Simulate physics
         if (deltaTime < 0.0f)
             throw new IllegalArgumentException();
+        float timeStep = settings.getTimeStep();
+        int maxSubSteps = settings.getMaxSubSteps();
+        int velocityIterations = settings.getVelocityIterations();
+        int positionIterations = settings.getPositionIterations();
         timeAccumulator += deltaTime;
-        while (timeAccumulator >= timeStep) {
+        
+        // If needed, trade accuracy for more steps
+        int limit = maxSubSteps;
+        if (settings.getOverflow() == WorldSettings.Overflow.DEGRADE) {
+            int pending = (int)(timeAccumulator / timeStep);
+            if (pending > maxSubSteps) {
+                limit = Math.min(pending, 2 * maxSubSteps);
+                velocityIterations = Math.max(1, velocityIterations * maxSubSteps / limit);
+                positionIterations = Math.max(1, positionIterations * maxSubSteps / limit);
+            }
+        }
+        
+        // Simulate as many steps as allowed
+        subStepCount = 0;
+        while (timeAccumulator >= timeStep && subStepCount < limit) {
             timeAccumulator -= timeStep;
-            world.step(timeStep, 8, 3);
+            ++subStepCount;
+            
+            // Keep state before last step, for render interpolation
+            if (timeAccumulator < timeStep || subStepCount == limit)
+                for (Body body = world.getBodyList(); body != null; body = body.m_next)
+                    if (body.m_type != BodyType.STATIC)
+                        ((Entity)body.m_userData).capturePrevious();
+            
+            // Warm starting would apply impulses that predate a restore
+            if (coldStep)
+                world.setWarmStarting(false);
+            world.step(timeStep, velocityIterations, positionIterations);
+            if (coldStep) {
+                world.setWarmStarting(settings.isWarmStarting());
+                coldStep = false;
+            }
+            dispatchContacts();
         }
         world.clearForces();
         
+        // Handle remaining time, if budget was exceeded
+        droppedTime = 0.0f;
+        if (timeAccumulator >= timeStep) {
+            float kept;
+            if (settings.getOverflow() == WorldSettings.Overflow.SLOW_DOWN)
+                kept = Math.min(timeAccumulator, maxSubSteps * timeStep);
+            else
+                kept = timeAccumulator - (float)Math.floor(timeAccumulator / timeStep) * timeStep;
+            droppedTime = timeAccumulator - kept;
+            timeAccumulator = kept;
+        }
+        
         // Update bodies
-        // TODO use residual time for extrapolation if needed
         for (org.jbox2d.dynamics.Body body = world.getBodyList(); body != null; body = body.m_next) {
             // TODO ignore static/sleeping bodies if needed
             Entity proxy = (Entity)body.m_userData;
             proxy.transform = null;
+            proxy.renderTransform = null;
         }
     }
     
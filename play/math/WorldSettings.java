@@ -0,0 +1,173 @@
+package ch.epfl.cs107.play.math;
+
+/**
+ * Contains simulation parameters of a world.
+ */
+public class WorldSettings {
+
+    /**
+     * Defines what happens when an update requires more steps than allowed.
+     */
+    public enum Overflow {
+
+        /** Simulates the allowed steps and forgets the remaining time, simulation falls behind real time. */
+        DROP,
+
+        /** Simulates the allowed steps and keeps remaining time for later updates, up to one full budget. */
+        SLOW_DOWN,
+
+        /** Simulates up to twice the allowed steps with proportionally fewer solver iterations, then drops remaining time. */
+        DEGRADE
+
+    }
+
+    private float timeStep;
+    private int velocityIterations;
+    private int positionIterations;
+    private int maxSubSteps;
+    private boolean warmStarting;
+    private boolean continuousCollision;
+    private Overflow overflow;
+
+    /** Creates default settings, i.e. 120 steps per second, 8 velocity and 3 position iterations, and at most 8 steps per update. */
+    public WorldSettings() {
+        timeStep = 1.0f / 120.0f;
+        velocityIterations = 8;
+        positionIterations = 3;
+        maxSubSteps = 8;
+        warmStarting = true;
+        continuousCollision = true;
+        overflow = Overflow.DROP;
+    }
+
+    /**
+     * Creates a copy of specified settings.
+     * @param other settings to copy, not null
+     */
+    public WorldSettings(WorldSettings other) {
+        timeStep = other.timeStep;
+        velocityIterations = other.velocityIterations;
+        positionIterations = other.positionIterations;
+        maxSubSteps = other.maxSubSteps;
+        warmStarting = other.warmStarting;
+        continuousCollision = other.continuousCollision;
+        overflow = other.overflow;
+    }
+
+    /**
+     * Sets fixed simulation step.
+     * @param timeStep duration of a single step, in seconds, positive
+     */
+    public void setTimeStep(float timeStep) {
+        if (!(timeStep > 0.0f))
+            throw new IllegalArgumentException();
+        this.timeStep = timeStep;
+    }
+
+    /** @return duration of a single step, in seconds */
+    public float getTimeStep() {
+        return timeStep;
+    }
+
+    /**
+     * Sets fixed simulation rate.
+     * @param rate number of steps per second, positive
+     */
+    public void setStepRate(float rate) {
+        if (!(rate > 0.0f))
+            throw new IllegalArgumentException();
+        timeStep = 1.0f / rate;
+    }
+
+    /** @return number of steps per second */
+    public float getStepRate() {
+        return 1.0f / timeStep;
+    }
+
+    /**
+     * Sets velocity constraint solver iterations.
+     * @param iterations iteration count, positive
+     */
+    public void setVelocityIterations(int iterations) {
+        if (iterations <= 0)
+            throw new IllegalArgumentException();
+        velocityIterations = iterations;
+    }
+
+    /** @return velocity constraint solver iterations */
+    public int getVelocityIterations() {
+        return velocityIterations;
+    }
+
+    /**
+     * Sets position constraint solver iterations.
+     * @param iterations iteration count, positive
+     */
+    public void setPositionIterations(int iterations) {
+        if (iterations <= 0)
+            throw new IllegalArgumentException();
+        positionIterations = iterations;
+    }
+
+    /** @return position constraint solver iterations */
+    public int getPositionIterations() {
+        return positionIterations;
+    }
+
+    /**
+     * Sets the maximal number of steps simulated during a single update.
+     * @param steps step count, positive
+     */
+    public void setMaxSubSteps(int steps) {
+        if (steps <= 0)
+            throw new IllegalArgumentException();
+        maxSubSteps = steps;
+    }
+
+    /** @return maximal number of steps simulated during a single update */
+    public int getMaxSubSteps() {
+        return maxSubSteps;
+    }
+
+    /**
+     * Sets whether solver reuses impulses from previous step.
+     * @param enabled new state
+     */
+    public void setWarmStarting(boolean enabled) {
+        warmStarting = enabled;
+    }
+
+    /** @return whether solver reuses impulses from previous step */
+    public boolean isWarmStarting() {
+        return warmStarting;
+    }
+
+    /**
+     * Sets whether time of impact is computed to avoid tunneling.
+     * @param enabled new state
+     */
+    public void setContinuousCollision(boolean enabled) {
+        continuousCollision = enabled;
+    }
+
+    /** @return whether time of impact is computed to avoid tunneling */
+    public boolean isContinuousCollision() {
+        return continuousCollision;
+    }
+
+    /**
+     * Sets behaviour when an update requires more steps than allowed.
+     * @param overflow policy, not null
+     */
+    public void setOverflow(Overflow overflow) {
+        if (overflow == null)
+            throw new NullPointerException();
+        this.overflow = overflow;
+    }
+
+    /** @return behaviour when an update requires more steps than allowed, not null */
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+}
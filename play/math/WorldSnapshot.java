@@ -0,0 +1,82 @@
+package ch.epfl.cs107.play.math;
+
+import java.util.Arrays;
+
+/**
+ * Reusable copy of the dynamic state of a world, filled by {@link World#capture} and applied by {@link World#restore}.
+ * Only movable entities and constraint motors are recorded; shapes, static entities and constraint definitions are not.
+ */
+public final class WorldSnapshot {
+
+    // Number of floats per entity: position, angle, linear velocity, angular velocity, sleep time and awake flag
+    static final int ENTITY_STRIDE = 7;
+
+    // Number of floats per constraint: motor speed and enabled flag
+    static final int CONSTRAINT_STRIDE = 2;
+
+    // Source world, null if never captured
+    World world;
+
+    // Captured entities, and their packed state
+    Entity[] entities;
+    float[] entityStates;
+    int entityCount;
+
+    // Captured motorized constraints, and their packed state
+    Constraint[] constraints;
+    float[] constraintStates;
+    int constraintCount;
+
+    /** Creates a new empty snapshot. */
+    public WorldSnapshot() {
+        entities = new Entity[16];
+        entityStates = new float[16 * ENTITY_STRIDE];
+        constraints = new Constraint[8];
+        constraintStates = new float[8 * CONSTRAINT_STRIDE];
+    }
+
+    // Internal helper, called before each capture
+    void reset(World world) {
+        this.world = world;
+        Arrays.fill(entities, 0, entityCount, null);
+        Arrays.fill(constraints, 0, constraintCount, null);
+        entityCount = 0;
+        constraintCount = 0;
+    }
+
+    // Internal helper, returns the offset of a new entity state
+    int addEntity(Entity entity) {
+        if (entityCount == entities.length) {
+            entities = Arrays.copyOf(entities, entityCount * 2);
+            entityStates = Arrays.copyOf(entityStates, entityCount * 2 * ENTITY_STRIDE);
+        }
+        entities[entityCount] = entity;
+        return entityCount++ * ENTITY_STRIDE;
+    }
+
+    // Internal helper, returns the offset of a new constraint state
+    int addConstraint(Constraint constraint) {
+        if (constraintCount == constraints.length) {
+            constraints = Arrays.copyOf(constraints, constraintCount * 2);
+            constraintStates = Arrays.copyOf(constraintStates, constraintCount * 2 * CONSTRAINT_STRIDE);
+        }
+        constraints[constraintCount] = constraint;
+        return constraintCount++ * CONSTRAINT_STRIDE;
+    }
+
+    /** @return whether it holds the state of a world */
+    public boolean isCaptured() {
+        return world != null;
+    }
+
+    /** @return number of captured entities */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /** @return number of captured constraints */
+    public int getConstraintCount() {
+        return constraintCount;
+    }
+
+}
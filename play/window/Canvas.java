@@ -5,6 +5,8 @@ import ch.epfl.cs107.play.math.Shape;
 import ch.epfl.cs107.play.math.Transform;
 import ch.epfl.cs107.play.math.Vector;
 import java.awt.Color;
+import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * Represents a rendering context, with various drawing capabilities.
@@ -19,6 +21,15 @@ public interface Canvas extends Positionable {
      * @return an image object, null on error
      */
     public Image getImage(String name);
+    
+    /**
+     * Starts loading specified images, so that they are ready when first drawn.
+     * @param names full names of images, not null
+     */
+    public default void preload(Collection<String> names) {
+        for (String name : names)
+            getImage(name);
+    }
 
     /**
      * Draws specified image.
@@ -57,4 +68,25 @@ public interface Canvas extends Positionable {
      */
     public void drawText(String text, float fontSize, Transform transform, Color fillColor, Color outlineColor, float thickness, boolean bold, boolean italics, Vector anchor, float alpha, float depth);
     
+    /**
+     * Creates a retained render node, if supported.
+     * Source is invoked each time the node is invalidated, and its drawing commands are kept until then.
+     * @param source callback issuing drawing commands on specified canvas, not null
+     * @return a new render node, null if this canvas only supports immediate drawing
+     */
+    public default RenderNode createNode(Consumer<Canvas> source) {
+        return createNode(source, false);
+    }
+    
+    /**
+     * Creates a retained render node, if supported.
+     * Fixed nodes are expected to rarely change, and may be pre-rendered.
+     * @param source callback issuing drawing commands on specified canvas, not null
+     * @param fixed whether drawing commands are expected to stay the same for many frames
+     * @return a new render node, null if this canvas only supports immediate drawing
+     */
+    public default RenderNode createNode(Consumer<Canvas> source, boolean fixed) {
+        return null;
+    }
+    
 }
@@ -0,0 +1,26 @@
+package ch.epfl.cs107.play.window;
+
+/**
+ * Represents a persistent element of a retained render list, which keeps its recorded drawing commands between frames.
+ */
+public interface RenderNode {
+
+    /**
+     * Requests drawing commands to be recorded again before next frame.
+     * Must be called whenever transform or appearance changed.
+     */
+    public void invalidate();
+
+    /**
+     * Keeps this node in current frame.
+     * Nodes not drawn during a frame are released at the end of it.
+     */
+    public void draw();
+
+    /** Removes this node from its canvas, it cannot be used afterward. */
+    public void release();
+
+    /** @return whether this node was removed from its canvas */
+    public boolean isReleased();
+
+}
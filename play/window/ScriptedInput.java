@@ -0,0 +1,114 @@
+package ch.epfl.cs107.play.window;
+
+import ch.epfl.cs107.play.math.Vector;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Input state of a window without any user, where keys and close requests are set by the caller.
+ * The mouse never moves nor clicks, and the window always has focus.
+ */
+public final class ScriptedInput {
+
+    private final Button focus;
+    private final Mouse mouse;
+    private final KeyboardProxy keyboard;
+    private boolean closeRequested;
+
+    // Define keyboard manager
+    private static class KeyboardProxy implements Keyboard {
+
+        private Set<Integer> previous;
+        private Set<Integer> current;
+        private final Set<Integer> buffer;
+
+        public KeyboardProxy() {
+            previous = new HashSet<>();
+            current = new HashSet<>();
+            buffer = new HashSet<>();
+        }
+
+        @Override
+        public Button get(int code) {
+            return new Button(previous.contains(code), current.contains(code));
+        }
+
+    }
+
+    /** Creates a new input state, without any key down. */
+    public ScriptedInput() {
+        focus = new Button(true);
+        mouse = new Mouse() {
+
+            @Override
+            public Vector getPosition() {
+                return Vector.ZERO;
+            }
+
+            @Override
+            public Vector getVelocity() {
+                return Vector.ZERO;
+            }
+
+            @Override
+            public Button getButton(int index) {
+                return new Button(false);
+            }
+
+        };
+        keyboard = new KeyboardProxy();
+    }
+
+    /**
+     * Sets the state of a key, visible after next update.
+     * @param code key code
+     * @param down whether the key is held down
+     * @see java.awt.event.KeyEvent
+     */
+    public void setKey(int code, boolean down) {
+        if (down)
+            keyboard.buffer.add(code);
+        else
+            keyboard.buffer.remove(code);
+    }
+
+    /** Releases all keys, visible after next update. */
+    public void releaseKeys() {
+        keyboard.buffer.clear();
+    }
+
+    /** Asks the main loop to stop. */
+    public void requestClose() {
+        closeRequested = true;
+    }
+
+    /** @return whether the main loop was asked to stop */
+    public boolean isCloseRequested() {
+        return closeRequested;
+    }
+
+    /** @return focus state, always down */
+    public Button getFocus() {
+        return focus;
+    }
+
+    /** @return mouse, which never moves nor clicks, not null */
+    public Mouse getMouse() {
+        return mouse;
+    }
+
+    /** @return keyboard, reflecting keys set before last update, not null */
+    public Keyboard getKeyboard() {
+        return keyboard;
+    }
+
+    /** Publishes keys set since last update, to be called once per frame. */
+    public void update() {
+        Set<Integer> tmp = keyboard.previous;
+        keyboard.previous = keyboard.current;
+        keyboard.current = tmp;
+        keyboard.current.clear();
+        keyboard.current.addAll(keyboard.buffer);
+    }
+
+}
@@ -0,0 +1,157 @@
+package ch.epfl.cs107.play.window.headless;
+
+import ch.epfl.cs107.play.math.Node;
+import ch.epfl.cs107.play.math.Shape;
+import ch.epfl.cs107.play.math.Transform;
+import ch.epfl.cs107.play.math.Vector;
+import ch.epfl.cs107.play.window.Button;
+import ch.epfl.cs107.play.window.Image;
+import ch.epfl.cs107.play.window.Keyboard;
+import ch.epfl.cs107.play.window.Mouse;
+import ch.epfl.cs107.play.window.ScriptedInput;
+import ch.epfl.cs107.play.window.Window;
+import java.awt.Color;
+
+/**
+ * Window context without any display, which only counts draw calls.
+ * Keyboard state is scripted by the caller, which makes it suitable for automated runs.
+ */
+public class HeadlessWindow extends Node implements Window {
+
+	// State information
+	private ScriptedInput input;
+
+	// Draw call counters, for current and previous frame
+	private int imageCount;
+	private int shapeCount;
+	private int textCount;
+	private int lastImageCount;
+	private int lastShapeCount;
+	private int lastTextCount;
+	private long frameCount;
+
+	/** Creates a new headless window. */
+	public HeadlessWindow() {
+		input = new ScriptedInput();
+	}
+
+	/**
+	 * Sets the state of a key, visible to the game after next update.
+	 * @param code key code
+	 * @param down whether the key is held down
+	 * @see java.awt.event.KeyEvent
+	 */
+	public void setKey(int code, boolean down) {
+		input.setKey(code, down);
+	}
+
+	/** Releases all keys, visible to the game after next update. */
+	public void releaseKeys() {
+		input.releaseKeys();
+	}
+
+	/** Asks the main loop to stop. */
+	public void requestClose() {
+		input.requestClose();
+	}
+
+	/** @return number of frames rendered so far */
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	/** @return number of images drawn during last frame */
+	public int getImageCount() {
+		return lastImageCount;
+	}
+
+	/** @return number of shapes drawn during last frame */
+	public int getShapeCount() {
+		return lastShapeCount;
+	}
+
+	/** @return number of texts drawn during last frame */
+	public int getTextCount() {
+		return lastTextCount;
+	}
+
+	/** @return number of draw calls during last frame */
+	public int getDrawCount() {
+		return lastImageCount + lastShapeCount + lastTextCount;
+	}
+
+	@Override
+	public Button getFocus() {
+		return input.getFocus();
+	}
+
+	@Override
+	public Mouse getMouse() {
+		return input.getMouse();
+	}
+
+	@Override
+	public Keyboard getKeyboard() {
+		return input.getKeyboard();
+	}
+
+	@Override
+	public boolean isCloseRequested() {
+		return input.isCloseRequested();
+	}
+
+	@Override
+	public void update() {
+
+		// Publish frame statistics
+		lastImageCount = imageCount;
+		lastShapeCount = shapeCount;
+		lastTextCount = textCount;
+		imageCount = 0;
+		shapeCount = 0;
+		textCount = 0;
+		++frameCount;
+
+		// Update keyboard buttons
+		input.update();
+	}
+
+	@Override
+	public void dispose() {
+		input.requestClose();
+	}
+
+	@Override
+	public Image getImage(String name) {
+		// No image is ever decoded, draw calls are only counted
+		return null;
+	}
+
+	@Override
+	public void drawImage(Image image, Transform transform, float alpha, float depth) {
+		if (transform == null)
+			throw new NullPointerException();
+		if (alpha <= 0.0f)
+			return;
+		++imageCount;
+	}
+
+	@Override
+	public void drawShape(Shape shape, Transform transform, Color fillColor, Color outlineColor, float thickness, float alpha, float depth) {
+		if (transform == null)
+			throw new NullPointerException();
+		if (shape == null || alpha <= 0.0f || (fillColor == null && (outlineColor == null || thickness <= 0.0f)))
+			return;
+		++shapeCount;
+	}
+
+	@Override
+	public void drawText(String text, float fontSize, Transform transform, Color fillColor, Color outlineColor, float thickness, boolean bold, boolean italics, Vector anchor, float alpha, float depth) {
+		if (transform == null)
+			throw new NullPointerException();
+		if (text == null || fontSize <= 0.0f || alpha <= 0.0f || (fillColor == null && (outlineColor == null || thickness <= 0.0f)))
+			return;
+		++textCount;
+	}
+
+}
@@ -0,0 +1,99 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects items in depth layers, keeping submission order within each layer.
+ * Since only a few distinct depths are usually used, this avoids sorting items on each frame.
+ */
+public class DrawQueue {
+
+    private float[] depths;
+    private List<List<Item>> layers;
+    private int last;
+    private int size;
+
+    /** Creates a new empty queue. */
+    public DrawQueue() {
+        depths = new float[8];
+        layers = new ArrayList<>();
+        last = -1;
+    }
+
+    /**
+     * Appends specified item to the layer of its depth.
+     * @param item any item, not null
+     */
+    public void add(Item item) {
+        float depth = item.getDepth();
+
+        // Consecutive items often share the same depth
+        if (last < 0 || Float.compare(depths[last], depth) != 0) {
+            int index = Arrays.binarySearch(depths, 0, layers.size(), depth);
+            if (index < 0) {
+                index = -index - 1;
+                insertLayer(index, depth);
+            }
+            last = index;
+        }
+        layers.get(last).add(item);
+        ++size;
+    }
+
+    // Create a new layer, keeping depths sorted
+    private void insertLayer(int index, float depth) {
+        int count = layers.size();
+        if (count == depths.length)
+            depths = Arrays.copyOf(depths, 2 * count);
+        System.arraycopy(depths, index, depths, index + 1, count - index);
+        depths[index] = depth;
+        layers.add(index, new ArrayList<>());
+    }
+
+    /** Removes all items, keeping layers that were used for next frame. */
+    public void clear() {
+        int count = 0;
+        for (int i = 0; i < layers.size(); ++i) {
+            List<Item> layer = layers.get(i);
+            if (layer.isEmpty())
+                continue;
+            layer.clear();
+            depths[count] = depths[i];
+            layers.set(count++, layer);
+        }
+        layers.subList(count, layers.size()).clear();
+        last = -1;
+        size = 0;
+    }
+
+    /** @return number of items */
+    public int size() {
+        return size;
+    }
+
+    /** @return number of distinct depths seen so far */
+    public int getLayerCount() {
+        return layers.size();
+    }
+
+    /**
+     * @param index layer index, between 0 and layer count, in increasing depth
+     * @return depth of specified layer
+     */
+    public float getLayerDepth(int index) {
+        if (index < 0 || index >= layers.size())
+            throw new IndexOutOfBoundsException();
+        return depths[index];
+    }
+
+    /**
+     * @param index layer index, between 0 and layer count, in increasing depth
+     * @return items of specified layer, in submission order, not null
+     */
+    public List<Item> getLayer(int index) {
+        return layers.get(index);
+    }
+
+}
@@ -0,0 +1,74 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares per-frame sorting of items against depth layers, without opening any window.
+ * Usage: <code>DrawQueueBenchmark [items] [frames]</code>.
+ */
+public class DrawQueueBenchmark {
+
+    // Depths used by the game, with most items on the default one
+    private static final float[] DEPTHS = {-1.0f, 0.0f, 0.0f, 0.0f, 100.0f};
+
+    /**
+     * Benchmark entry point.
+     * @param args optional item count and frame count
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        // Create items once, submission order is shuffled depths
+        Random random = new Random(0);
+        Rectangle2D shape = new Rectangle2D.Float(0.0f, 0.0f, 1.0f, 1.0f);
+        List<Item> source = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i)
+            source.add(new ShapeItem(shape, null, null, 0.0f, 1.0f, DEPTHS[random.nextInt(DEPTHS.length)]));
+
+        // Both approaches must produce the same order
+        List<Item> sorted = new ArrayList<>(count);
+        DrawQueue queue = new DrawQueue();
+        fillSorted(source, sorted);
+        fillQueue(source, queue);
+        int index = 0;
+        for (int i = 0; i < queue.getLayerCount(); ++i)
+            for (Item item : queue.getLayer(i))
+                if (item != sorted.get(index++))
+                    throw new IllegalStateException("order mismatch");
+
+        // Warm up, then measure
+        for (int pass = 0; pass < 2; ++pass) {
+            long start = System.nanoTime();
+            for (int f = 0; f < frames; ++f)
+                fillSorted(source, sorted);
+            long middle = System.nanoTime();
+            for (int f = 0; f < frames; ++f)
+                fillQueue(source, queue);
+            long end = System.nanoTime();
+            if (pass > 0)
+                System.out.println(String.format("%d items, sort %.1f us/frame, layers %.1f us/frame",
+                        count, (middle - start) * 1E-3 / frames, (end - middle) * 1E-3 / frames));
+        }
+    }
+
+    // Previous behaviour, i.e. append then sort
+    private static void fillSorted(List<Item> source, List<Item> sorted) {
+        sorted.clear();
+        for (Item item : source)
+            sorted.add(item);
+        Collections.sort(sorted);
+    }
+
+    // Layered behaviour
+    private static void fillQueue(List<Item> source, DrawQueue queue) {
+        queue.clear();
+        for (Item item : source)
+            queue.add(item);
+    }
+
+}
@@ -0,0 +1,145 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps laid out strings, i.e. glyph outlines and bounds at unit font size, in least-recently-used order.
+ * This class is thread-safe.
+ */
+public class GlyphCache {
+
+    // Unit size layout, independent of any context transform
+    private static final FontRenderContext CONTEXT = new FontRenderContext(null, true, true);
+
+    /**
+     * Laid out string, immutable.
+     */
+    public static final class Layout {
+
+        private final Shape outline;
+        private final Rectangle2D bounds;
+
+        private Layout(Shape outline, Rectangle2D bounds) {
+            this.outline = outline;
+            this.bounds = bounds;
+        }
+
+        /** @return glyph outlines, with baseline origin at zero, not null */
+        public Shape getOutline() {
+            return outline;
+        }
+
+        /** @return logical bounds, relative to baseline origin, not null */
+        public Rectangle2D getBounds() {
+            return bounds;
+        }
+
+    }
+
+    // Cache key
+    private static final class Key {
+
+        final String text;
+        final int style;
+
+        Key(String text, int style) {
+            this.text = text;
+            this.style = style;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, style);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == null || !(object instanceof Key))
+                return false;
+            Key other = (Key) object;
+            return style == other.style && text.equals(other.text);
+        }
+
+    }
+
+    private final Font[] fonts;
+    private final LinkedHashMap<Key, Layout> layouts;
+    private final int capacity;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a new cache.
+     * @param capacity maximal number of layouts, positive
+     */
+    public GlyphCache(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException();
+        this.capacity = capacity;
+        fonts = new Font[4];
+        layouts = new LinkedHashMap<Key, Layout>(64, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Layout> eldest) {
+                return size() > GlyphCache.this.capacity;
+            }
+
+        };
+    }
+
+    /**
+     * Gets shared unit size font.
+     * @param bold whether to use bold font
+     * @param italics whether to use italics font
+     * @return font, not null
+     */
+    public synchronized Font getFont(boolean bold, boolean italics) {
+        int index = (bold ? 1 : 0) | (italics ? 2 : 0);
+        Font font = fonts[index];
+        if (font == null) {
+            font = new Font(null, Font.HANGING_BASELINE | (bold ? Font.BOLD : 0) | (italics ? Font.ITALIC : 0), 1);
+            fonts[index] = font;
+        }
+        return font;
+    }
+
+    /**
+     * Gets cached layout, or lays out specified string.
+     * @param text content, not null
+     * @param bold whether to use bold font
+     * @param italics whether to use italics font
+     * @return layout at unit font size, not null
+     */
+    public synchronized Layout get(String text, boolean bold, boolean italics) {
+        Font font = getFont(bold, italics);
+        Key key = new Key(text, font.getStyle());
+        Layout layout = layouts.get(key);
+        if (layout != null) {
+            ++hits;
+            return layout;
+        }
+        ++misses;
+        Shape outline = font.createGlyphVector(CONTEXT, text).getOutline();
+        Rectangle2D bounds = font.getStringBounds(text, CONTEXT);
+        layout = new Layout(outline, bounds);
+        layouts.put(key, layout);
+        return layout;
+    }
+
+    /** @return number of requests served from cache */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /** @return number of requests that required a new layout */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+}
@@ -0,0 +1,391 @@
+package ch.epfl.cs107.play.window.swing;
+
+import ch.epfl.cs107.play.io.FileSystem;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Loads images on demand and keeps decoded ones in least-recently-used order, under a memory budget.
+ * Pinned images are never evicted and do not count against the budget.
+ * Pages of the texture atlas, if any, count against the budget but are never evicted.
+ * If asynchronous, images are decoded by background threads and draw nothing until ready.
+ * Apart from decoding, this class is meant to be used by a single thread.
+ */
+public class ImageCache implements AutoCloseable {
+
+    /** Delay before loading a missing or invalid image again, in nanoseconds. */
+    public static final long RETRY_DELAY = 1000000000L;
+
+    private final FileSystem fileSystem;
+    private final ExecutorService decoder;
+    private final Queue<String> completed;
+    private volatile TextureAtlas atlas;
+    private final LinkedHashMap<String, SwingImage> images;
+    private final Map<String, SwingImage> pinnedImages;
+    private final Map<String, Long> failures;
+    private final List<Pattern> pins;
+    private long budget;
+    private long memory;
+    private long pinnedMemory;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long discards;
+
+    /**
+     * Creates a new image cache.
+     * @param fileSystem source used to load images, not null
+     * @param budget maximal memory used by unpinned decoded images and atlas pages, in bytes, non-negative
+     * @param threads number of background decoding threads, zero to decode synchronously
+     */
+    public ImageCache(FileSystem fileSystem, long budget, int threads) {
+        if (fileSystem == null)
+            throw new NullPointerException();
+        if (budget < 0 || threads < 0)
+            throw new IllegalArgumentException();
+        this.fileSystem = fileSystem;
+        this.budget = budget;
+        if (threads > 0)
+            decoder = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "image-decoder");
+                thread.setDaemon(true);
+                return thread;
+            });
+        else
+            decoder = null;
+        completed = new ConcurrentLinkedQueue<>();
+        images = new LinkedHashMap<>(64, 0.75f, true);
+        pinnedImages = new HashMap<>();
+        failures = new HashMap<>();
+        pins = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new synchronous image cache.
+     * @param fileSystem source used to load images, not null
+     * @param budget maximal memory used by unpinned decoded images and atlas pages, in bytes, non-negative
+     */
+    public ImageCache(FileSystem fileSystem, long budget) {
+        this(fileSystem, budget, 0);
+    }
+
+    /**
+     * Gets image from cache, or loads it from file system.
+     * If asynchronous, a pending image is returned on first use.
+     * @param name full name of image, not null
+     * @return an image object, null on error
+     */
+    public SwingImage get(String name) {
+        if (name == null)
+            throw new NullPointerException();
+        update();
+
+        // Check loaded images
+        SwingImage image = pinnedImages.get(name);
+        if (image == null)
+            image = images.get(name);
+        if (image != null) {
+            if (image.isFailed()) {
+                remove(name);
+                discard(image);
+                failures.put(name, System.nanoTime());
+                ++misses;
+                return null;
+            }
+            ++hits;
+            return image;
+        }
+
+        // Do not retry failed images too often
+        ++misses;
+        Long failure = failures.get(name);
+        if (failure != null) {
+            if (System.nanoTime() - failure < RETRY_DELAY)
+                return null;
+            failures.remove(name);
+        }
+
+        // Load image, in background if possible
+        image = new SwingImage();
+        TextureAtlas atlas = this.atlas;
+        if (atlas != null && atlas.restore(name, image)) {
+            put(name, image);
+            return image;
+        }
+        if (decoder != null) {
+            put(name, image);
+            SwingImage pending = image;
+            decoder.execute(() -> {
+                load(name, pending);
+                completed.add(name);
+            });
+            return image;
+        }
+        load(name, image);
+        if (image.isFailed()) {
+            failures.put(name, System.nanoTime());
+            return null;
+        }
+        put(name, image);
+        return image;
+    }
+
+    /**
+     * Starts loading specified images, so that they are ready when first drawn.
+     * @param names full names of images, not null
+     */
+    public void preload(Collection<String> names) {
+        for (String name : names)
+            get(name);
+    }
+
+    /** Accounts for images decoded in background since last call. */
+    public void update() {
+        String name;
+        while ((name = completed.poll()) != null) {
+            SwingImage image = pinnedImages.get(name);
+            boolean pinned = image != null;
+            if (!pinned)
+                image = images.get(name);
+
+            // Image may have been evicted before completion, or failed
+            if (image != null && image.isFailed())
+                discard(image);
+            if (image == null || !image.isReady() || image.footprint > 0)
+                continue;
+            image.footprint = estimate(image);
+            if (pinned)
+                pinnedMemory += image.footprint;
+            else
+                memory += image.footprint;
+        }
+        evict();
+    }
+
+    // Read and decode image, completing specified image
+    private void load(String name, SwingImage image) {
+        InputStream input = null;
+        try {
+            input = fileSystem.read(name);
+            BufferedImage decoded = SwingImage.read(input);
+            TextureAtlas atlas = this.atlas;
+            if (atlas == null || !atlas.add(name, decoded, image))
+                image.complete(SwingImage.convert(decoded));
+        } catch (IOException | RuntimeException e) {
+            image.fail();
+        } finally {
+            try {
+                if (input != null)
+                    input.close();
+            } catch (IOException e) {
+                // Empty on purpose
+            }
+        }
+    }
+
+    // Store an image, evicting old ones if needed
+    private void put(String name, SwingImage image) {
+        image.footprint = estimate(image);
+        if (isPinned(name)) {
+            pinnedImages.put(name, image);
+            pinnedMemory += size(image);
+        } else {
+            images.put(name, image);
+            memory += size(image);
+            evict();
+        }
+    }
+
+    // Mark an image as unusable by its holders, which should request it again
+    private void discard(SwingImage image) {
+        if (!image.discarded) {
+            image.discarded = true;
+            ++discards;
+        }
+    }
+
+    // Forget an image
+    private void remove(String name) {
+        SwingImage image = pinnedImages.remove(name);
+        if (image != null)
+            pinnedMemory -= size(image);
+        image = images.remove(name);
+        if (image != null)
+            memory -= size(image);
+    }
+
+    // Remove least recently used images until budget is respected, atlas pages included
+    private void evict() {
+        TextureAtlas atlas = this.atlas;
+        long available = budget - (atlas == null ? 0 : atlas.getMemory());
+        Iterator<SwingImage> iterator = images.values().iterator();
+        while (memory > available && iterator.hasNext()) {
+
+            // Regions and pending images free nothing
+            SwingImage image = iterator.next();
+            long size = size(image);
+            if (size == 0)
+                continue;
+            memory -= size;
+            iterator.remove();
+            discard(image);
+            ++evictions;
+        }
+    }
+
+    /**
+     * Pins images whose name match specified pattern, where <code>*</code> matches any sequence of characters.
+     * Already loaded images are pinned as well.
+     * @param glob name pattern, not null
+     */
+    public void pin(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (regex.length() > 0)
+                regex.append(".*");
+            if (!part.isEmpty())
+                regex.append(Pattern.quote(part));
+        }
+        pins.add(Pattern.compile(regex.toString()));
+
+        // Move matching images out of the evictable set
+        Iterator<Map.Entry<String, SwingImage>> iterator = images.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, SwingImage> entry = iterator.next();
+            if (isPinned(entry.getKey())) {
+                long size = size(entry.getValue());
+                memory -= size;
+                pinnedMemory += size;
+                pinnedImages.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @param name full name of image, not null
+     * @return whether this image is never evicted
+     */
+    public boolean isPinned(String name) {
+        for (Pattern pattern : pins)
+            if (pattern.matcher(name).matches())
+                return true;
+        return false;
+    }
+
+    /**
+     * Sets maximal memory used by unpinned decoded images and atlas pages, evicting least recently used images if needed.
+     * @param budget memory, in bytes, non-negative
+     */
+    public void setBudget(long budget) {
+        if (budget < 0)
+            throw new IllegalArgumentException();
+        this.budget = budget;
+        evict();
+    }
+
+    /** @return maximal memory used by unpinned decoded images and atlas pages, in bytes */
+    public long getBudget() {
+        return budget;
+    }
+
+    /** @return memory used by unpinned decoded images and atlas pages, in bytes */
+    public long getMemory() {
+        TextureAtlas atlas = this.atlas;
+        return memory + (atlas == null ? 0 : atlas.getMemory());
+    }
+
+    /** @return memory used by pinned decoded images, in bytes */
+    public long getPinnedMemory() {
+        return pinnedMemory;
+    }
+
+    /** @return number of requests served from memory */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Sets atlas used to pack small images, whose pages are accounted in memory usage instead.
+     * Only images loaded afterward are packed.
+     * @param atlas texture atlas, null to keep each image in its own buffer
+     */
+    public void setAtlas(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /** @return texture atlas used to pack small images, may be null */
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /** @return whether images are decoded by background threads */
+    public boolean isAsynchronous() {
+        return decoder != null;
+    }
+
+    /** @return number of requests that required loading, or failed */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /** @return number of images evicted to respect budget */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Number of images evicted or failed since creation.
+     * Holders of such images should request them again, and may compare this count to know whether to check theirs.
+     * @return number of discarded images
+     * @see SwingImage#isDiscarded()
+     */
+    public long getDiscardCount() {
+        return discards;
+    }
+
+    /** Forgets all images, including pinned ones, and failed loads. */
+    public void clear() {
+        for (SwingImage image : images.values())
+            discard(image);
+        for (SwingImage image : pinnedImages.values())
+            discard(image);
+        images.clear();
+        pinnedImages.clear();
+        failures.clear();
+        memory = 0;
+        pinnedMemory = 0;
+    }
+
+    @Override
+    public void close() {
+        if (decoder != null)
+            decoder.shutdownNow();
+    }
+
+    // Get accounted memory
+    private static long size(SwingImage image) {
+        return image.footprint;
+    }
+
+    // Estimate decoded size, assuming 32-bit pixels, zero if pending or packed in an atlas
+    private static long estimate(SwingImage image) {
+        if (image.isRegion())
+            return 0;
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+}
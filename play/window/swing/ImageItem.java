@@ -5,6 +5,7 @@ import java.awt.AlphaComposite;
 import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
 /**
@@ -36,27 +37,73 @@ public class ImageItem implements Item {
         return depth;
     }
     
+    @Override
+    public Rectangle2D getBounds() {
+        float x = transform.m02 + Math.min(0.0f, transform.m00) + Math.min(0.0f, transform.m01);
+        float y = transform.m12 + Math.min(0.0f, transform.m10) + Math.min(0.0f, transform.m11);
+        float width = Math.abs(transform.m00) + Math.abs(transform.m01);
+        float height = Math.abs(transform.m10) + Math.abs(transform.m11);
+        return new Rectangle2D.Float(x, y, width, height);
+    }
+    
+    // Package-protected, for batching
+    SwingImage getImage() {
+        return image;
+    }
+
+    // Package-protected, for batching
+    float getAlpha() {
+        return alpha;
+    }
+    
     @Override
     public void render(Graphics2D g) {
         if (alpha <= 0.0f)
             return;
-        // Note: image space has inverted Y-axis, need to flip vertically
+        Composite composite = null;
+        if (alpha < 1.0f) {
+            composite = g.getComposite();
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        }
+        AffineTransform world = g.getTransform();
+        draw(g, world, new AffineTransform(), new AffineTransform());
+        g.setTransform(world);
+        if (composite != null)
+            g.setComposite(composite);
+    }
+
+    /**
+     * Draws this image using current composite, leaving context transform modified.
+     * @param g target context, not null
+     * @param world world transform of target context, not null
+     * @param local temporary transform, overwritten, not null
+     * @param combined temporary transform, overwritten, not null
+     */
+    void draw(Graphics2D g, AffineTransform world, AffineTransform local, AffineTransform combined) {
+
+        // Nothing to draw until image is decoded
         BufferedImage i = image.image;
-        float sx = 1.0f / i.getWidth();
-        float sy = -1.0f / i.getHeight();
-        AffineTransform a = new AffineTransform(
+        if (i == null)
+            return;
+
+        // Note: image space has inverted Y-axis, need to flip vertically
+        int width = image.width;
+        int height = image.height;
+        float sx = 1.0f / width;
+        float sy = -1.0f / height;
+        local.setTransform(
             transform.m00 * sx, transform.m10 * sx,
             transform.m01 * sy, transform.m11 * sy,
             transform.m02 + transform.m01, transform.m12 + transform.m11
         );
-        if (alpha >= 1.0f)
-            g.drawImage(i, a, null);
-        else {
-            Composite composite = g.getComposite();
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-            g.drawImage(i, a, null);
-            g.setComposite(composite);
-        }
+        combined.setTransform(world);
+        combined.concatenate(local);
+        g.setTransform(combined);
+
+        // Atlas regions are drawn as sub-rectangles of a shared buffer
+        int x = image.x;
+        int y = image.y;
+        g.drawImage(i, 0, 0, width, height, x, y, x + width, y + height, null);
     }
     
 }
@@ -1,6 +1,7 @@
 package ch.epfl.cs107.play.window.swing;
 
 import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
 
 /**
  * Represent a renderable element in a Swing context.
@@ -15,6 +16,11 @@ public interface Item extends Comparable<Item> {
         return Float.compare(getDepth(), other.getDepth());
     }
     
+    /** @return conservative bounding box in world coordinates, null if unknown */
+    public default Rectangle2D getBounds() {
+        return null;
+    }
+    
     /**
      * Renders the item.
      * @param g target context, not null
@@ -0,0 +1,254 @@
+package ch.epfl.cs107.play.window.swing;
+
+import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.math.Node;
+import ch.epfl.cs107.play.math.Shape;
+import ch.epfl.cs107.play.math.Transform;
+import ch.epfl.cs107.play.math.Vector;
+import ch.epfl.cs107.play.window.Button;
+import ch.epfl.cs107.play.window.Canvas;
+import ch.epfl.cs107.play.window.Image;
+import ch.epfl.cs107.play.window.Keyboard;
+import ch.epfl.cs107.play.window.Mouse;
+import ch.epfl.cs107.play.window.RenderNode;
+import ch.epfl.cs107.play.window.ScriptedInput;
+import ch.epfl.cs107.play.window.Window;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Window context rendering into an in-memory image, without any display.
+ * Items, retained nodes and fixed tiles go through the same path as in {@link SwingWindow},
+ * except that each frame is drawn synchronously during update, which makes it suitable for render benchmarks and captures.
+ */
+public class OffscreenWindow extends Node implements Window {
+
+	// Image stuff
+	private ImageCache images;
+
+	// Immediate and retained items, and their renderer
+	private RetainedScene scene;
+	private SceneRenderer renderer;
+	private List<Item> frameItems;
+
+	// Target image
+	private BufferedImage buffer;
+
+	// State information
+	private ScriptedInput input;
+	private Viewport viewport;
+
+	// Frame statistics, for last rendered frame
+	private long frameCount;
+	private long renderTime;
+	private int itemCount;
+
+	/**
+	 * Creates a new offscreen window.
+	 *
+	 * @param fileSystem
+	 *            source used to load images, not null
+	 * @param width
+	 *            frame buffer width, in pixels, positive
+	 * @param height
+	 *            frame buffer height, in pixels, positive
+	 */
+	public OffscreenWindow(FileSystem fileSystem, int width, int height) {
+		if (fileSystem == null)
+			throw new NullPointerException();
+
+		// Decode images synchronously, so that every frame is reproducible
+		images = new ImageCache(fileSystem, 64L << 20, 0);
+		images.pin("heart.*.png");
+		images.pin("star.*.png");
+		images.setAtlas(new TextureAtlas(1024, 256));
+		scene = new RetainedScene(images);
+		renderer = new SceneRenderer(scene);
+		frameItems = new ArrayList<>();
+		setSize(width, height);
+
+		input = new ScriptedInput();
+		viewport = new Viewport();
+	}
+
+	/**
+	 * Resizes frame buffer, which is cleared.
+	 * @param width frame buffer width, in pixels, positive
+	 * @param height frame buffer height, in pixels, positive
+	 */
+	public void setSize(int width, int height) {
+		if (width <= 0 || height <= 0)
+			throw new IllegalArgumentException();
+		buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+	}
+
+	/**
+	 * Sets the state of a key, visible to the game after next update.
+	 * @param code key code
+	 * @param down whether the key is held down
+	 * @see java.awt.event.KeyEvent
+	 */
+	public void setKey(int code, boolean down) {
+		input.setKey(code, down);
+	}
+
+	/** Releases all keys, visible to the game after next update. */
+	public void releaseKeys() {
+		input.releaseKeys();
+	}
+
+	/** Asks the main loop to stop. */
+	public void requestClose() {
+		input.requestClose();
+	}
+
+	/** @return frame buffer, overwritten on each update, not null */
+	public BufferedImage getFrameBuffer() {
+		return buffer;
+	}
+
+	/** @return copy of last rendered frame, not null */
+	public BufferedImage capture() {
+		BufferedImage copy = new BufferedImage(buffer.getWidth(), buffer.getHeight(), buffer.getType());
+		buffer.copyData(copy.getRaster());
+		return copy;
+	}
+
+	/** @return number of frames rendered so far */
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	/** @return time spent rendering last frame, in nanoseconds */
+	public long getRenderTime() {
+		return renderTime;
+	}
+
+	/** @return number of items drawn during last frame */
+	public int getItemCount() {
+		return itemCount;
+	}
+
+	/** @return image cache, used to tune budget and pinning, and to get statistics, not null */
+	public ImageCache getImageCache() {
+		return images;
+	}
+
+	/** @return cache of pre-rendered fixed items, used to tune budget and to get statistics, not null */
+	public TileCache getTileCache() {
+		return renderer.getTileCache();
+	}
+
+	@Override
+	public Button getFocus() {
+		return input.getFocus();
+	}
+
+	@Override
+	public Mouse getMouse() {
+		return input.getMouse();
+	}
+
+	@Override
+	public Keyboard getKeyboard() {
+		return input.getKeyboard();
+	}
+
+	@Override
+	public boolean isCloseRequested() {
+		return input.isCloseRequested();
+	}
+
+	@Override
+	public void update() {
+		long start = System.nanoTime();
+
+		// Compute viewport metrics
+		int width = buffer.getWidth();
+		int height = buffer.getHeight();
+		viewport.update(getTransform(), width, height);
+
+		// Draw frame at once, as the Swing window render thread would
+		images.update();
+		scene.update(this, frameItems);
+		Graphics2D graphics = buffer.createGraphics();
+		renderer.render(graphics, frameItems, viewport.getTransform(), width, height, graphics.getDeviceConfiguration());
+		graphics.dispose();
+
+		// Publish frame statistics
+		itemCount = frameItems.size();
+		frameItems.clear();
+		++frameCount;
+		renderTime = System.nanoTime() - start;
+
+		// Update keyboard buttons
+		input.update();
+	}
+
+	@Override
+	public void dispose() {
+		input.requestClose();
+		images.close();
+	}
+
+	@Override
+	public SwingImage getImage(String name) {
+		return images.get(name);
+	}
+
+	@Override
+	public void preload(Collection<String> names) {
+		images.preload(names);
+	}
+
+	@Override
+	public RenderNode createNode(Consumer<Canvas> source, boolean fixed) {
+		return scene.createNode(source, fixed);
+	}
+
+	/**
+	 * Add specified item to current draw list.
+	 *
+	 * @param item
+	 *            any item, not null
+	 */
+	public void draw(Item item) {
+		if (item == null)
+			throw new NullPointerException();
+		scene.submit(item);
+	}
+
+	@Override
+	public void drawImage(Image image, Transform transform, float alpha, float depth) {
+		if (transform == null)
+			throw new NullPointerException();
+		scene.track((SwingImage) image);
+		if (image == null || alpha <= 0.0f)
+			return;
+		scene.submit(new ImageItem(depth, alpha, transform, (SwingImage) image));
+	}
+
+	@Override
+	public void drawShape(Shape shape, Transform transform, Color fillColor, Color outlineColor, float thickness, float alpha, float depth) {
+		if (transform == null)
+			throw new NullPointerException();
+		if (shape == null || alpha <= 0.0f || (fillColor == null && (outlineColor == null || thickness <= 0.0f)))
+			return;
+		scene.submit(new ShapeItem(shape.getPath(), transform, fillColor, outlineColor, thickness, alpha, depth));
+	}
+
+	@Override
+	public void drawText(String text, float fontSize, Transform transform, Color fillColor, Color outlineColor, float thickness, boolean bold, boolean italics, Vector anchor, float alpha, float depth) {
+		if (transform == null)
+			throw new NullPointerException();
+		if (text == null || fontSize <= 0.0f || alpha <= 0.0f || (fillColor == null && (outlineColor == null || thickness <= 0.0f)))
+			return;
+		scene.submit(new TextItem(text, fontSize, transform, fillColor, outlineColor, thickness, bold, italics, anchor, depth, alpha));
+	}
+
+}
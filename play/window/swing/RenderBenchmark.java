@@ -0,0 +1,62 @@
+package ch.epfl.cs107.play.window.swing;
+
+import ch.epfl.cs107.play.HeadlessProgram;
+import ch.epfl.cs107.play.game.Game;
+import ch.epfl.cs107.play.game.actor.bike.BikeGame;
+import ch.epfl.cs107.play.io.DefaultFileSystem;
+import ch.epfl.cs107.play.io.FileSystem;
+import ch.epfl.cs107.play.io.FolderFileSystem;
+import ch.epfl.cs107.play.io.ResourceFileSystem;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+/**
+ * Measures rendering of the bike game in an offscreen buffer, without opening any window.
+ * Usage: <code>RenderBenchmark [frames] [width] [height] [capture.png]</code>.
+ */
+public class RenderBenchmark {
+
+    /**
+     * Benchmark entry point.
+     * @param args optional frame count, buffer size and capture path
+     * @throws IOException if capture cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int width = args.length > 1 ? Integer.parseInt(args[1]) : 640;
+        int height = args.length > 2 ? Integer.parseInt(args[2]) : 480;
+
+        // Define cascading file system
+        FileSystem fileSystem = new FolderFileSystem(new ResourceFileSystem(DefaultFileSystem.INSTANCE));
+
+        // Ride forward, measuring render time only
+        OffscreenWindow window = new OffscreenWindow(fileSystem, width, height);
+        Game game = new BikeGame();
+        long total = 0;
+        long worst = 0;
+        long items = 0;
+        try {
+            if (game.begin(window, fileSystem)) {
+                while (window.getFrameCount() < frames && !window.isCloseRequested()) {
+                    window.setKey(KeyEvent.VK_UP, true);
+                    window.update();
+                    game.update(HeadlessProgram.DEFAULT_DELTA_TIME);
+                    total += window.getRenderTime();
+                    worst = Math.max(worst, window.getRenderTime());
+                    items += window.getItemCount();
+                }
+            }
+            long count = Math.max(1, window.getFrameCount());
+            System.out.println(String.format("%d frames of %dx%d, %.1f us per frame on average, %.1f us at worst, %.1f items per frame",
+                    window.getFrameCount(), width, height, total * 1E-3 / count, worst * 1E-3, (double) items / count));
+            if (args.length > 3)
+                ImageIO.write(window.getFrameBuffer(), "png", new File(args[3]));
+        } finally {
+            game.end();
+            window.dispose();
+        }
+    }
+
+}
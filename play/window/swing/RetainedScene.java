@@ -0,0 +1,385 @@
+package ch.epfl.cs107.play.window.swing;
+
+import ch.epfl.cs107.play.window.Canvas;
+import ch.epfl.cs107.play.window.RenderNode;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Draw list of a Swing window, made of immediate items and of items recorded by render nodes.
+ * Items of fixed nodes are forwarded to the renderer, and only appear in the draw list as placeholders of their layer.
+ * Apart from fixed changes, this class is meant to be used by the game thread only.
+ */
+class RetainedScene {
+
+	// Image source, whose discarded images invalidate nodes
+	private final ImageCache images;
+
+	// Immediate items of current frame
+	private final DrawQueue items;
+
+	// Retained render list, sorted by depth
+	private final List<SceneNode> nodes;
+	private final List<SceneNode> dirtyNodes;
+	private List<RetainedItem> retained;
+	private List<RetainedItem> merged;
+	private final List<RetainedItem> pending;
+	private final List<Item> recorded;
+	private boolean recording;
+	private SceneNode current;
+	private long discardCount;
+	private int frameIndex;
+	private long sequence;
+
+	// Fixed items, grouped by depth, and changes not yet applied by the renderer
+	private final TreeMap<Float, FixedLayer> fixedLayers;
+	private final Queue<FixedChange> fixedChanges;
+
+	// Define retained render node
+	private class SceneNode implements RenderNode {
+
+		final Consumer<Canvas> source;
+		final long order;
+		final List<Item> fixedItems;
+		final List<SwingImage> images;
+		int frameIndex;
+		boolean dirty;
+		boolean released;
+		boolean missing;
+		long retryTime;
+
+		SceneNode(Consumer<Canvas> source, long order, boolean fixed) {
+			this.source = source;
+			this.order = order;
+			fixedItems = fixed ? new ArrayList<>() : null;
+			images = new ArrayList<>();
+			frameIndex = RetainedScene.this.frameIndex;
+			dirty = true;
+			dirtyNodes.add(this);
+		}
+
+		@Override
+		public void invalidate() {
+			if (released)
+				throw new IllegalStateException();
+			if (!dirty) {
+				dirty = true;
+				dirtyNodes.add(this);
+			}
+		}
+
+		@Override
+		public void draw() {
+			if (released)
+				throw new IllegalStateException();
+			frameIndex = RetainedScene.this.frameIndex;
+		}
+
+		@Override
+		public void release() {
+			released = true;
+		}
+
+		@Override
+		public boolean isReleased() {
+			return released;
+		}
+
+		// Remember an image used while recording, null if it could not be loaded
+		void track(SwingImage image) {
+			if (image == null)
+				missing = true;
+			else
+				images.add(image);
+		}
+
+		// Whether recorded images were discarded by the cache, or missing ones may be loaded again
+		boolean isStale(boolean discards, long now) {
+			if (missing && now - retryTime >= 0)
+				return true;
+			if (discards)
+				for (SwingImage image : images)
+					if (image.isDiscarded() || image.isFailed())
+						return true;
+			return false;
+		}
+
+	}
+
+	// Define recorded item, ordered by depth and then by creation
+	private static class RetainedItem implements Item {
+
+		final SceneNode node;
+		final int index;
+		final Item item;
+
+		RetainedItem(SceneNode node, int index, Item item) {
+			this.node = node;
+			this.index = index;
+			this.item = item;
+		}
+
+		@Override
+		public float getDepth() {
+			return item.getDepth();
+		}
+
+		@Override
+		public int compareTo(Item other) {
+			int result = Float.compare(getDepth(), other.getDepth());
+			if (result == 0 && other instanceof RetainedItem) {
+				RetainedItem o = (RetainedItem) other;
+				result = Long.compare(node.order, o.node.order);
+				if (result == 0)
+					result = Integer.compare(index, o.index);
+			}
+			return result;
+		}
+
+		@Override
+		public void render(Graphics2D g) {
+			item.render(g);
+		}
+
+	}
+
+	/** Placeholder for a fixed layer in the draw list, drawn by the renderer using its tiles. */
+	static class FixedLayer implements Item {
+
+		final float depth;
+		int count;
+
+		FixedLayer(float depth) {
+			this.depth = depth;
+		}
+
+		@Override
+		public float getDepth() {
+			return depth;
+		}
+
+		@Override
+		public void render(Graphics2D g) {
+		}
+
+	}
+
+	// Define fixed item insertion or removal, applied in order by the renderer
+	private static class FixedChange {
+
+		final Item item;
+		final boolean added;
+
+		FixedChange(Item item, boolean added) {
+			this.item = item;
+			this.added = added;
+		}
+
+	}
+
+	/**
+	 * Creates a new empty scene.
+	 * @param images image source, whose discarded images are tracked, not null
+	 */
+	RetainedScene(ImageCache images) {
+		this.images = images;
+		items = new DrawQueue();
+		nodes = new ArrayList<>();
+		dirtyNodes = new ArrayList<>();
+		retained = new ArrayList<>();
+		merged = new ArrayList<>();
+		pending = new ArrayList<>();
+		recorded = new ArrayList<>();
+		fixedLayers = new TreeMap<>();
+		fixedChanges = new ConcurrentLinkedQueue<>();
+	}
+
+	/**
+	 * Add item to current node if recording, or to current frame otherwise.
+	 * @param item any item, not null
+	 */
+	void submit(Item item) {
+		if (recording)
+			recorded.add(item);
+		else
+			items.add(item);
+	}
+
+	/**
+	 * Remember an image requested by current node, if recording.
+	 * @param image drawn image, null if it could not be loaded
+	 */
+	void track(SwingImage image) {
+		if (recording)
+			current.track(image);
+	}
+
+	/**
+	 * Creates a retained render node.
+	 * @param source callback issuing drawing commands, not null
+	 * @param fixed whether its items are pre-rendered by the renderer
+	 * @return a new render node, not null
+	 */
+	RenderNode createNode(Consumer<Canvas> source, boolean fixed) {
+		if (source == null)
+			throw new NullPointerException();
+		SceneNode node = new SceneNode(source, sequence++, fixed);
+		nodes.add(node);
+		return node;
+	}
+
+	/**
+	 * Ends current frame, recording invalidated nodes, and clears immediate items.
+	 * @param canvas canvas given to node sources, which must submit items to this scene, not null
+	 * @param output list to which the ordered draw list is appended, not null
+	 */
+	void update(Canvas canvas, List<Item> output) {
+		refreshNodes(canvas);
+		collect(output);
+		items.clear();
+		++frameIndex;
+	}
+
+	/**
+	 * Applies fixed item changes, in order, called by the renderer.
+	 * Changes from a newer frame may be applied as well, which is harmless.
+	 * @param tiles renderer tile cache, not null
+	 */
+	void applyFixedChanges(TileCache tiles) {
+		FixedChange change;
+		while ((change = fixedChanges.poll()) != null) {
+			if (change.added)
+				tiles.add(change.item);
+			else
+				tiles.remove(change.item);
+		}
+	}
+
+	// Merge fixed layers, retained and immediate items, fixed ones being drawn first among equal depths
+	private void collect(List<Item> output) {
+		Iterator<FixedLayer> fixed = fixedLayers.values().iterator();
+		FixedLayer layer = fixed.hasNext() ? fixed.next() : null;
+		int index = 0;
+		for (int i = 0; i <= items.getLayerCount(); ++i) {
+			float depth = i < items.getLayerCount() ? items.getLayerDepth(i) : Float.POSITIVE_INFINITY;
+			while (index < retained.size() && retained.get(index).getDepth() <= depth) {
+				float next = retained.get(index).getDepth();
+				while (layer != null && layer.depth <= next) {
+					output.add(layer);
+					layer = fixed.hasNext() ? fixed.next() : null;
+				}
+				output.add(retained.get(index++).item);
+			}
+			while (layer != null && layer.depth <= depth) {
+				output.add(layer);
+				layer = fixed.hasNext() ? fixed.next() : null;
+			}
+			if (i < items.getLayerCount())
+				output.addAll(items.getLayer(i));
+		}
+	}
+
+	// Update retained list with invalidated and released nodes
+	private void refreshNodes(Canvas canvas) {
+
+		// Release nodes that were not drawn during this frame, and record again those holding unusable images
+		long now = System.nanoTime();
+		long discards = images.getDiscardCount();
+		boolean discarded = discards != discardCount;
+		discardCount = discards;
+		int count = nodes.size();
+		nodes.removeIf(node -> {
+			if (node.frameIndex != frameIndex)
+				node.released = true;
+			if (node.released)
+				removeFixedItems(node);
+			else if (!node.dirty && node.isStale(discarded, now))
+				node.invalidate();
+			return node.released;
+		});
+		if (count == nodes.size() && dirtyNodes.isEmpty())
+			return;
+
+		// Remove outdated items, which keeps remaining ones sorted
+		retained.removeIf(item -> item.node.released || item.node.dirty);
+
+		// Record invalidated nodes
+		pending.clear();
+		for (SceneNode node : dirtyNodes) {
+			node.dirty = false;
+			if (node.released)
+				continue;
+			removeFixedItems(node);
+			node.images.clear();
+			node.missing = false;
+			recording = true;
+			current = node;
+			try {
+				node.source.accept(canvas);
+			} finally {
+				recording = false;
+				current = null;
+			}
+			if (node.missing)
+				node.retryTime = now + ImageCache.RETRY_DELAY;
+			if (node.fixedItems != null) {
+				for (Item item : recorded)
+					addFixedItem(item);
+				node.fixedItems.addAll(recorded);
+			} else
+				for (int i = 0; i < recorded.size(); ++i)
+					pending.add(new RetainedItem(node, i, recorded.get(i)));
+			recorded.clear();
+		}
+		dirtyNodes.clear();
+
+		// Merge new items in depth order
+		Collections.sort(pending);
+		merged.clear();
+		int i = 0;
+		int j = 0;
+		while (i < retained.size() && j < pending.size()) {
+			if (retained.get(i).compareTo(pending.get(j)) <= 0)
+				merged.add(retained.get(i++));
+			else
+				merged.add(pending.get(j++));
+		}
+		while (i < retained.size())
+			merged.add(retained.get(i++));
+		while (j < pending.size())
+			merged.add(pending.get(j++));
+		List<RetainedItem> tmp = retained;
+		retained = merged;
+		merged = tmp;
+		merged.clear();
+		pending.clear();
+	}
+
+	// Remove pre-rendered items of specified node, if any
+	private void removeFixedItems(SceneNode node) {
+		if (node.fixedItems != null) {
+			for (Item item : node.fixedItems) {
+				FixedLayer layer = fixedLayers.get(item.getDepth());
+				if (--layer.count == 0)
+					fixedLayers.remove(item.getDepth());
+				fixedChanges.add(new FixedChange(item, false));
+			}
+			node.fixedItems.clear();
+		}
+	}
+
+	// Forward pre-rendered item to renderer
+	private void addFixedItem(Item item) {
+		FixedLayer layer = fixedLayers.computeIfAbsent(item.getDepth(), FixedLayer::new);
+		++layer.count;
+		fixedChanges.add(new FixedChange(item, true));
+	}
+
+}
@@ -0,0 +1,74 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.util.List;
+
+/**
+ * Draws the draw lists of a {@link RetainedScene}, fixed layers being replaced by their pre-rendered tiles.
+ * This class is meant to be used by a single thread, which may differ from the game thread.
+ */
+class SceneRenderer {
+
+	private final RetainedScene scene;
+	private final TileCache tiles;
+	private final SpriteBatch batch;
+
+	/**
+	 * Creates a new renderer.
+	 * @param scene source of fixed items, not null
+	 */
+	SceneRenderer(RetainedScene scene) {
+		this.scene = scene;
+		tiles = new TileCache(256, 64L << 20);
+		batch = new SpriteBatch();
+	}
+
+	/**
+	 * Clears target and draws specified items.
+	 * @param graphics target context, whose state is modified, not null
+	 * @param items ordered draw list, not null
+	 * @param transform view transform, from world coordinates to pixels, not null
+	 * @param width target width, in pixels
+	 * @param height target height, in pixels
+	 * @param configuration configuration used to create tiles, not null
+	 */
+	void render(Graphics2D graphics, List<Item> items, AffineTransform transform, int width, int height, GraphicsConfiguration configuration) {
+
+		// Apply fixed changes, possibly including some from a newer frame, which is harmless
+		scene.applyFixedChanges(tiles);
+
+		// Clear background
+		graphics.setColor(SwingWindow.BACKGROUND);
+		graphics.fillRect(0, 0, width, height);
+
+		// Enable anti-aliasing
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+		// Set view transform
+		AffineTransform base = graphics.getTransform();
+		graphics.transform(transform);
+
+		// Render ordered drawables, replacing fixed placeholders by their tiles
+		tiles.begin(transform, configuration);
+		for (Item item : items) {
+			if (item instanceof RetainedScene.FixedLayer) {
+				int layer = tiles.getLayerIndex(item.getDepth());
+				batch.flush();
+				if (layer >= 0)
+					tiles.render(graphics, base, layer, width, height);
+			} else
+				batch.render(graphics, item);
+		}
+		batch.flush();
+	}
+
+	/** @return cache of pre-rendered fixed items, not null */
+	TileCache getTileCache() {
+		return tiles;
+	}
+
+}
@@ -6,6 +6,10 @@ import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import ch.epfl.cs107.play.math.Transform;
 
 /**
  * Draw a single shape.
@@ -13,11 +17,15 @@ import java.awt.Shape;
 public class ShapeItem implements Item {
 
 	private Shape shape;
+	private AffineTransform transform;
+	private Shape outline;
 	private Color fillColor;
 	private Color outlineColor;
 	private float thickness;
 	private float alpha;
 	private float depth;
+	private Stroke stroke;
+	private Rectangle2D bounds;
 
     /**
      * Creates a new shape item.
@@ -38,11 +46,55 @@ public class ShapeItem implements Item {
 		this.depth = depth;
 	}
 
+    /**
+     * Creates a new shape item, drawn through specified transform instead of copying the geometry.
+     * @param shape Swing shape in local coordinates, not modified afterward, not null
+     * @param transform local to world transform, not null
+     * @param fillColor fill color, may be null
+     * @param outlineColor outline color, may be null
+     * @param thickness outline thickness, in world units
+     * @param alpha transparency, between 0 (invisible) and 1 (opaque)
+     * @param depth associated depth
+     */
+	public ShapeItem(Shape shape, Transform transform, Color fillColor, Color outlineColor, float thickness, float alpha, float depth) {
+		this(shape, fillColor, outlineColor, thickness, alpha, depth);
+		this.transform = transform.getAffineTransform();
+
+		// Outline width must not depend on scale, which is only uniform for similarities
+		if (outlineColor != null) {
+			float scaleX = (float)Math.sqrt(transform.m00 * transform.m00 + transform.m10 * transform.m10);
+			float scaleY = (float)Math.sqrt(transform.m01 * transform.m01 + transform.m11 * transform.m11);
+			float dot = transform.m00 * transform.m01 + transform.m10 * transform.m11;
+			float tolerance = 1e-4f * Math.max(scaleX, scaleY);
+			if (Math.abs(scaleX - scaleY) <= tolerance && Math.abs(dot) <= tolerance * scaleX && scaleX > 0.0f)
+				stroke = new BasicStroke(thickness / scaleX);
+			else {
+				stroke = new BasicStroke(thickness);
+				outline = this.transform.createTransformedShape(shape);
+			}
+		}
+	}
+
 	@Override
 	public float getDepth() {
 		return depth;
 	}
 
+	@Override
+	public Rectangle2D getBounds() {
+		if (bounds == null) {
+			Rectangle2D box = transform == null ? shape.getBounds2D() : transform.createTransformedShape(shape).getBounds2D();
+
+			// Outline joins may extend up to half the default miter limit of 10 times thickness
+			if (outlineColor != null && thickness > 0.0f) {
+				float margin = 5.0f * thickness;
+				box.setRect(box.getX() - margin, box.getY() - margin, box.getWidth() + 2 * margin, box.getHeight() + 2 * margin);
+			}
+			bounds = box;
+		}
+		return bounds;
+	}
+
 	@Override
 	public void render(Graphics2D g) {
         if (alpha <= 0.0f)
@@ -52,15 +104,30 @@ public class ShapeItem implements Item {
             old = g.getComposite();
             g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
         }
+
+        // Draw in world coordinates, or in local coordinates if a transform is attached
+        AffineTransform world = null;
+        if (transform != null) {
+            world = g.getTransform();
+            g.transform(transform);
+        }
 		if (fillColor != null) {
 			g.setColor(fillColor);
 			g.fill(shape);
 		}
 		if (outlineColor != null) {
 			g.setColor(outlineColor);
-			g.setStroke(new BasicStroke(thickness));
-			g.draw(shape);
+			if (stroke == null)
+				stroke = new BasicStroke(thickness);
+			g.setStroke(stroke);
+			if (outline != null) {
+				g.setTransform(world);
+				g.draw(outline);
+			} else
+				g.draw(shape);
 		}
+        if (world != null)
+            g.setTransform(world);
         if (old != null)
             g.setComposite(old);
 	}
@@ -0,0 +1,123 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+
+/**
+ * Renders items in order, consecutive images sharing the state of the context.
+ * A run of images reads the world transform once and reuses the same transforms, while the composite is only changed
+ * when alpha differs from the previous image, using one composite per alpha value.
+ * Context state is restored before any other item, and on flush.
+ */
+public class SpriteBatch {
+
+    // Number of distinct alpha values whose composite is kept
+    private static final int COMPOSITE_CACHE_SIZE = 8;
+
+    private final AffineTransform world;
+    private final AffineTransform local;
+    private final AffineTransform combined;
+    private final float[] alphas;
+    private final AlphaComposite[] composites;
+    private int nextComposite;
+
+    // Current run, whose context is modified
+    private Graphics2D graphics;
+    private Composite original;
+    private float alpha;
+    private SwingImage image;
+    private float depth;
+
+    // Statistics
+    private long batches;
+    private long sprites;
+
+    /** Creates a new sprite batch. */
+    public SpriteBatch() {
+        world = new AffineTransform();
+        local = new AffineTransform();
+        combined = new AffineTransform();
+        alphas = new float[COMPOSITE_CACHE_SIZE];
+        composites = new AlphaComposite[COMPOSITE_CACHE_SIZE];
+    }
+
+    /**
+     * Renders specified item, sharing context state with previous item if both are images.
+     * @param g target context, not null
+     * @param item any item, not null
+     */
+    public void render(Graphics2D g, Item item) {
+        if (!(item instanceof ImageItem)) {
+            flush();
+            item.render(g);
+            return;
+        }
+        ImageItem sprite = (ImageItem) item;
+        float alpha = sprite.getAlpha();
+        if (alpha <= 0.0f)
+            return;
+
+        // Start a new run on first image
+        if (graphics != g) {
+            flush();
+            graphics = g;
+            world.setTransform(g.getTransform());
+            this.alpha = 1.0f;
+        }
+
+        // Change composite only if needed
+        if (alpha != this.alpha) {
+            if (original == null)
+                original = g.getComposite();
+            g.setComposite(alpha < 1.0f ? getComposite(alpha) : original);
+            this.alpha = alpha;
+            image = null;
+        }
+
+        // Count groups of identical images, for statistics only
+        if (sprite.getImage() != image || sprite.getDepth() != depth) {
+            image = sprite.getImage();
+            depth = sprite.getDepth();
+            ++batches;
+        }
+        sprite.draw(g, world, local, combined);
+        ++sprites;
+    }
+
+    /** Ends current run, restoring context state. */
+    public void flush() {
+        if (graphics == null)
+            return;
+        graphics.setTransform(world);
+        if (original != null)
+            graphics.setComposite(original);
+        graphics = null;
+        original = null;
+        image = null;
+    }
+
+    // Get composite of specified translucent alpha, reusing recent ones
+    private AlphaComposite getComposite(float alpha) {
+        for (int i = 0; i < COMPOSITE_CACHE_SIZE; ++i)
+            if (composites[i] != null && alphas[i] == alpha)
+                return composites[i];
+        AlphaComposite composite = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha);
+        alphas[nextComposite] = alpha;
+        composites[nextComposite] = composite;
+        nextComposite = (nextComposite + 1) % COMPOSITE_CACHE_SIZE;
+        return composite;
+    }
+
+    /** @return number of groups of consecutive identical images since creation */
+    public long getBatchCount() {
+        return batches;
+    }
+
+    /** @return number of images drawn since creation */
+    public long getSpriteCount() {
+        return sprites;
+    }
+
+}
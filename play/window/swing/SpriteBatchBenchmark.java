@@ -0,0 +1,72 @@
+package ch.epfl.cs107.play.window.swing;
+
+import ch.epfl.cs107.play.math.Transform;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares individual and batched image rendering in an offscreen buffer, without opening any window.
+ * Software rendering is bound by pixel blending, hence allocations per item are reported as well.
+ * Usage: <code>SpriteBatchBenchmark [items] [frames]</code>.
+ */
+public class SpriteBatchBenchmark {
+
+    /**
+     * Benchmark entry point.
+     * @param args optional item count and frame count
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        // Rows of a few distinct sprites, some of them translucent
+        Random random = new Random(0);
+        List<SwingImage> images = new ArrayList<>();
+        for (int i = 0; i < 4; ++i)
+            images.add(new SwingImage(new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB)));
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            Transform transform = Transform.I.translated(random.nextFloat() * 32.0f, random.nextFloat() * 24.0f);
+            float alpha = i % 500 < 250 ? 1.0f : 0.5f;
+            items.add(new ImageItem(0.0f, alpha, transform, images.get(i * images.size() / count)));
+        }
+
+        // Offscreen target, with a view transform similar to the game
+        BufferedImage target = new BufferedImage(640, 480, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D graphics = target.createGraphics();
+        graphics.scale(20.0, -20.0);
+        graphics.translate(0.0, -24.0);
+        SpriteBatch batch = new SpriteBatch();
+
+        // Warm up, then measure
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int pass = 0; pass < 2; ++pass) {
+            long startBytes = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int f = 0; f < frames; ++f)
+                for (Item item : items)
+                    item.render(graphics);
+            long middle = System.nanoTime();
+            long middleBytes = threads.getThreadAllocatedBytes(thread);
+            for (int f = 0; f < frames; ++f) {
+                for (Item item : items)
+                    batch.render(graphics, item);
+                batch.flush();
+            }
+            long end = System.nanoTime();
+            long endBytes = threads.getThreadAllocatedBytes(thread);
+            if (pass > 0)
+                System.out.println(String.format("%d items, individual %.1f items/ms and %.1f bytes/item, batched %.1f items/ms and %.1f bytes/item, %d batches per frame",
+                        count, count * frames * 1E6 / (middle - start), (double) (middleBytes - startBytes) / (count * frames),
+                        count * frames * 1E6 / (end - middle), (double) (endBytes - middleBytes) / (count * frames),
+                        batch.getBatchCount() / (2 * frames)));
+        }
+        graphics.dispose();
+    }
+
+}
@@ -11,56 +11,131 @@ import java.io.InputStream;
 import javax.imageio.ImageIO;
 
 /**
- * Swing implementation of an image.
+ * Swing implementation of an image, which may be decoded in background.
+ * It may cover only a region of its buffer, if packed in an atlas.
  */
 public class SwingImage implements Image {
 
-    // Package-protected, for efficient access
-    final BufferedImage image;
+    // Package-protected, for efficient access, null until decoded
+    volatile BufferedImage image;
+    private volatile boolean failed;
+
+    // Covered region of the buffer, written before the buffer is published
+    int x;
+    int y;
+    int width;
+    int height;
+
+    // Memory accounted by owning cache, in bytes
+    long footprint;
+
+    // Set once forgotten by owning cache, which would load another copy on next request
+    boolean discarded;
+
+    // Creates a pending image, to be completed later
+    SwingImage() {
+    }
 
     /**
      * Creates an image from specified image.
      * @param image valid image to be copied, not null
      */
 	public SwingImage(java.awt.Image image) {
+		complete(convert(image));
+	}
+    
+    /**
+     * Creates an image from specified image input stream.
+     * @param stream valid image input stream, not null
+     * @throws IOException if an error occurs during reading
+     */
+    public SwingImage(InputStream stream) throws IOException {
+        this(read(stream));
+    }
+
+    // Decode image, failing on unsupported formats
+    static BufferedImage read(InputStream stream) throws IOException {
+        BufferedImage image = ImageIO.read(stream);
+        if (image == null)
+            throw new IOException("unsupported image format");
+        return image;
+    }
+    
+    // Copy image in a buffer suited for display
+	static BufferedImage convert(java.awt.Image image) {
 		// See
 		// http://stackoverflow.com/questions/196890/java2d-performance-issues
 		// http://stackoverflow.com/questions/13605248/java-converting-image-to-bufferedimage
 		// http://stackoverflow.com/questions/148478/java-2d-drawing-optimal-performance
 		
-		// Get system graphical configuration
-		GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
-		
 		// Get image size
 		int width = image.getWidth(null);
 		int height = image.getHeight(null);
 		
-		// Create optimized buffered image
-		this.image = config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		// Create optimized buffered image, using system graphical configuration if any
+		BufferedImage result;
+		if (GraphicsEnvironment.isHeadless())
+			result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+		else {
+			GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+			result = config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		}
 		
 		// Draw original image in buffer
-		Graphics2D graphics = this.image.createGraphics();
+		Graphics2D graphics = result.createGraphics();
 		graphics.drawImage(image, 0, 0, null);
 		graphics.dispose();
+		return result;
 	}
-    
-    /**
-     * Creates an image from specified image input stream.
-     * @param stream valid image input stream, not null
-     * @throws IOException if an error occurs during reading
-     */
-    public SwingImage(InputStream stream) throws IOException {
-        this(ImageIO.read(stream));
+
+    // Called once decoded
+    void complete(BufferedImage image) {
+        complete(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    // Called once decoded, if only a region of the buffer is used
+    void complete(BufferedImage image, int x, int y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.image = image;
+    }
+
+    /** @return whether this image covers only a region of its buffer */
+    public boolean isRegion() {
+        BufferedImage i = image;
+        return i != null && (width != i.getWidth() || height != i.getHeight());
+    }
+
+    // Called if decoding failed
+    void fail() {
+        failed = true;
+    }
+
+    /** @return whether this image is decoded and can be drawn */
+    public boolean isReady() {
+        return image != null;
+    }
+
+    /** @return whether decoding failed, in which case this image will never be drawn */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /** @return whether owning cache forgot this image, which should then be requested again */
+    public boolean isDiscarded() {
+        return discarded;
     }
     
     @Override
     public int getWidth() {
-        return image.getWidth();
+        return image == null ? 0 : width;
     }
 
     @Override
     public int getHeight() {
-        return image.getHeight();
+        return image == null ? 0 : height;
     }
     
 }
@@ -8,14 +8,15 @@ import ch.epfl.cs107.play.math.Shape;
 import ch.epfl.cs107.play.window.Mouse;
 import ch.epfl.cs107.play.window.Keyboard;
 import ch.epfl.cs107.play.window.Button;
+import ch.epfl.cs107.play.window.Canvas;
 import ch.epfl.cs107.play.window.Image;
+import ch.epfl.cs107.play.window.RenderNode;
 import ch.epfl.cs107.play.window.Window;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.MouseInfo;
 import java.awt.Point;
 import java.awt.PointerInfo;
-import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
@@ -25,17 +26,15 @@ import java.awt.event.MouseWheelEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Path2D;
 import java.awt.image.BufferStrategy;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 
@@ -44,10 +43,21 @@ import javax.swing.SwingUtilities;
  */
 public class SwingWindow extends Node implements Window {
 
+	/** Background color, used to clear each frame. */
+	static final Color BACKGROUND = new Color(245, 255, 255);
+
 	// Image stuff
-	private FileSystem fileSystem;
-	private Map<String, SwingImage> images;
-	private List<Item> items;
+	private ImageCache images;
+
+	// Immediate and retained items, and view metrics
+	private RetainedScene scene;
+	private Viewport viewport;
+
+	// Render thread, only drawing the latest published frame
+	private Thread renderer;
+	private SceneRenderer sceneRenderer;
+	private AtomicReference<Frame> latest;
+	private AtomicReference<Frame> spare;
 
 	// Swing components
 	private JFrame frame;
@@ -106,6 +116,16 @@ public class SwingWindow extends Node implements Window {
 
 	}
 
+	// Define frame snapshot, which is not modified once published
+	private static class Frame {
+
+		final List<Item> items = new ArrayList<>();
+		AffineTransform transform;
+		int width;
+		int height;
+
+	}
+
 	// Define keyboard manager
 	private class KeyboardProxy extends KeyAdapter implements Keyboard {
 
@@ -150,17 +170,23 @@ public class SwingWindow extends Node implements Window {
 	 */
 	public SwingWindow(String title, FileSystem fileSystem) {
 
-		// Prepare image loader
-		this.fileSystem = fileSystem;
-		images = new HashMap<>();
-		items = new ArrayList<>();
+		// Prepare image loader, keeping HUD assets loaded
+		images = new ImageCache(fileSystem, 64L << 20, 2);
+		images.pin("heart.*.png");
+		images.pin("star.*.png");
+		images.setAtlas(new TextureAtlas(1024, 256));
+		scene = new RetainedScene(images);
+		viewport = new Viewport();
+		sceneRenderer = new SceneRenderer(scene);
+		latest = new AtomicReference<>();
+		spare = new AtomicReference<>();
 
 		// Create Swing canvas
 		canvas = new java.awt.Canvas();
 		canvas.setFocusable(true);
 		canvas.setFocusTraversalKeysEnabled(false);
 		canvas.setIgnoreRepaint(true);
-		canvas.setBackground(new Color(245, 255, 255));
+		canvas.setBackground(BACKGROUND);
 
 		// Create Swing frame
 		frame = new JFrame(title);
@@ -191,6 +217,11 @@ public class SwingWindow extends Node implements Window {
 		frame.pack();
 		frame.setSize(640, 480);
 		frame.setVisible(true);
+
+		// Start render thread
+		renderer = new Thread(this::renderLoop, "render");
+		renderer.setDaemon(true);
+		renderer.start();
 	}
 
 	@Override
@@ -219,67 +250,38 @@ public class SwingWindow extends Node implements Window {
 		// Compute viewport metrics
 		int width = canvas.getWidth();
 		int height = canvas.getHeight();
-		float halfX;
-		float halfY;
-		if (width > height) {
-			halfX = 1.0f;
-			halfY = (float) height / (float) width;
-		} else {
-			halfX = (float) width / (float) height;
-			halfY = 1.0f;
-		}
-		Transform viewToWorld = getTransform();
-		Transform worldToView = viewToWorld.inverted();
-		Transform projection = new Transform(0.5f * width / halfX, 0.0f, 0.5f * width, 0.0f, -0.5f * height / halfY, 0.5f * height);
-		Transform transform = worldToView.transformed(projection);
-
-		// Setup double buffering if needed
-		if (strategy == null) {
-			canvas.createBufferStrategy(2);
-			strategy = canvas.getBufferStrategy();
+		viewport.update(getTransform(), width, height);
+
+		// Publish frame snapshot, replacing the previous one if it was not drawn yet
+		images.update();
+		Frame snapshot = spare.getAndSet(null);
+		if (snapshot == null)
+			snapshot = new Frame();
+		snapshot.transform = viewport.getTransform();
+		snapshot.width = width;
+		snapshot.height = height;
+		scene.update(this, snapshot.items);
+		Frame dropped = latest.getAndSet(snapshot);
+		if (dropped != null) {
+			dropped.items.clear();
+			spare.set(dropped);
 		}
-
-		// Create graphic context
-		Graphics2D graphics = (Graphics2D) strategy.getDrawGraphics();
-
-		// Clear background
-		graphics.setColor(canvas.getBackground());
-		graphics.fillRect(0, 0, width, height);
-
-		// Enable anti-aliasing
-		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-		graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-
-		// Set view transform
-		AffineTransform affine = new AffineTransform(transform.m00, transform.m10, transform.m01, transform.m11,
-				transform.m02, transform.m12);
-		graphics.transform(affine);
-
-		// Render ordered drawables
-		Collections.sort(items);
-		for (Item item : items)
-			item.render(graphics);
-
-		// Finalize rendering
-		graphics.dispose();
-		strategy.show();
-		Toolkit.getDefaultToolkit().sync();
-		items.clear();
+		LockSupport.unpark(renderer);
 
 		// Update window state
 		focus = focus.updated(canvas.hasFocus());
 
-		// Get mouse pointer location
-		float x = 0.0f;
-		float y = 0.0f;
+		// Get mouse pointer location, at the center if unknown
+		float x = 0.5f * width;
+		float y = 0.5f * height;
 		PointerInfo pointer = MouseInfo.getPointerInfo();
 		if (pointer != null) {
 			Point point = pointer.getLocation();
 			SwingUtilities.convertPointFromScreen(point, canvas);
-			x = ((float) point.getX() - 0.5f * width) * 2.0f * halfX / width;
-			y = ((float) point.getY() - 0.5f * height) * -2.0f * halfY / height;
+			x = (float) point.getX();
+			y = (float) point.getY();
 		}
-		mouseProxy.position = viewToWorld.onPoint(x, y);
+		mouseProxy.position = viewport.toWorld(x, y);
 
 		synchronized (this) {
 
@@ -300,31 +302,67 @@ public class SwingWindow extends Node implements Window {
 
 	@Override
 	public void dispose() {
+		renderer.interrupt();
+		try {
+			renderer.join(1000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		images.close();
 		frame.dispose();
 	}
 
 	@Override
 	public SwingImage getImage(String name) {
-		SwingImage image = images.get(name);
-		if (image == null) {
-			InputStream input = null;
-			try {
-				input = fileSystem.read(name);
-				image = new SwingImage(input);
-			} catch (IOException e) {
-				// Empty on purpose, will return null as an error
-			} finally {
-				try {
-					if (input != null)
-						input.close();
-				} catch (IOException e) {
-					// Empty on purpose
-				}
+		return images.get(name);
+	}
+
+	@Override
+	public void preload(Collection<String> names) {
+		images.preload(names);
+	}
+
+	/** @return image cache, used to tune budget and pinning, and to get statistics, not null */
+	public ImageCache getImageCache() {
+		return images;
+	}
+
+	// Draw published frames until interrupted
+	private void renderLoop() {
+		while (!Thread.currentThread().isInterrupted()) {
+			Frame snapshot = latest.getAndSet(null);
+			if (snapshot == null) {
+				LockSupport.park(this);
+				continue;
 			}
-			images.put(name, image);
-			// TODO maybe need to free memory at some point
+			render(snapshot);
+			snapshot.items.clear();
+			spare.set(snapshot);
 		}
-		return image;
+	}
+
+	// Draw a single frame, called by render thread only
+	private void render(Frame snapshot) {
+
+		// Setup double buffering if needed
+		if (strategy == null) {
+			canvas.createBufferStrategy(2);
+			strategy = canvas.getBufferStrategy();
+		}
+
+		// Draw frame
+		Graphics2D graphics = (Graphics2D) strategy.getDrawGraphics();
+		sceneRenderer.render(graphics, snapshot.items, snapshot.transform, snapshot.width, snapshot.height, canvas.getGraphicsConfiguration());
+
+		// Finalize rendering
+		graphics.dispose();
+		strategy.show();
+		Toolkit.getDefaultToolkit().sync();
+	}
+
+	@Override
+	public RenderNode createNode(Consumer<Canvas> source, boolean fixed) {
+		return scene.createNode(source, fixed);
 	}
 
 	/**
@@ -336,16 +374,17 @@ public class SwingWindow extends Node implements Window {
 	public void draw(Item item) {
 		if (item == null)
 			throw new NullPointerException();
-		items.add(item);
+		scene.submit(item);
 	}
 
 	@Override
 	public void drawImage(Image image, Transform transform, float alpha, float depth) {
 		if (transform == null)
 			throw new NullPointerException();
+		scene.track((SwingImage) image);
 		if (image == null || alpha <= 0.0f)
 			return;
-		items.add(new ImageItem(depth, alpha, transform, (SwingImage) image));
+		scene.submit(new ImageItem(depth, alpha, transform, (SwingImage) image));
 	}
 
     @Override
@@ -354,9 +393,7 @@ public class SwingWindow extends Node implements Window {
 			throw new NullPointerException();
         if (shape == null || alpha <= 0.0f || (fillColor == null && (outlineColor == null || thickness <= 0.0f)))
 			return;
-        Path2D path = shape.toPath();
-		path.transform(transform.getAffineTransform());
-		items.add(new ShapeItem(path, fillColor, outlineColor, thickness, alpha, depth));
+		scene.submit(new ShapeItem(shape.getPath(), transform, fillColor, outlineColor, thickness, alpha, depth));
     }
 
     @Override
@@ -365,7 +402,7 @@ public class SwingWindow extends Node implements Window {
 			throw new NullPointerException();
         if (text == null || fontSize <= 0.0f || alpha <= 0.0f || (fillColor == null && (outlineColor == null || thickness <= 0.0f)))
             return;
-        items.add(new TextItem(text, fontSize, transform, fillColor, outlineColor, thickness, bold, italics, anchor, depth, alpha));
+        scene.submit(new TextItem(text, fontSize, transform, fillColor, outlineColor, thickness, bold, italics, anchor, depth, alpha));
     }
     
 }
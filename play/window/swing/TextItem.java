@@ -2,11 +2,8 @@ package ch.epfl.cs107.play.window.swing;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.awt.Shape;
-import java.awt.font.GlyphVector;
+import java.awt.Stroke;
 import java.awt.geom.AffineTransform;
 
 import ch.epfl.cs107.play.math.Transform;
@@ -20,16 +17,21 @@ import java.awt.geom.Rectangle2D;
  */
 public class TextItem implements Item {
 
+    // Layouts shared by all text items
+    static final GlyphCache GLYPHS = new GlyphCache(256);
+
     private String text;
     private float fontSize;
     private Transform transform;
     private Color fillColor;
     private Color outlineColor;
 	private float thickness;
-    private Font font;
+    private boolean bold;
+    private boolean italics;
     private Vector anchor;
 	private float depth;
 	private float alpha;
+    private Stroke stroke;
 
     /**
      * Creates a new text graphics.
@@ -52,7 +54,8 @@ public class TextItem implements Item {
         this.fillColor = fillColor;
         this.outlineColor = outlineColor;
         this.thickness = thickness;
-        this.font = new Font(null, Font.HANGING_BASELINE | (bold ? Font.BOLD : 0) | (italics ? Font.ITALIC : 0), 1);
+        this.bold = bold;
+        this.italics = italics;
         this.anchor = anchor;
         this.depth = depth;
         this.alpha = alpha;
@@ -67,7 +70,6 @@ public class TextItem implements Item {
 	public void render(Graphics2D g) {
         
         // Keep current state, in order to restore it later
-		Font origFont = g.getFont();
 		Color origColor = g.getColor();
 		AffineTransform origTransform = g.getTransform();
         Composite origComposite = null;
@@ -82,35 +84,31 @@ public class TextItem implements Item {
             -transform.m01, -transform.m11,
 		    transform.m02 + transform.m01, transform.m12 + transform.m11
         );
-
-        // Define intrisic text properties
-		g.setFont(font);
-		g.setColor(fillColor);
-		AffineTransform ax = (AffineTransform) origTransform.clone();
-		ax.concatenate(a);
-		g.setTransform(ax);
+		g.transform(a);
 		g.scale(fontSize, fontSize);
 
-		// Estimate text size
-		FontMetrics metrics = g.getFontMetrics(font);
-        Rectangle2D bounds = metrics.getStringBounds(text, g);
+		// Get cached layout, and align it according to anchor
+        GlyphCache.Layout layout = GLYPHS.get(text, bold, italics);
+        Rectangle2D bounds = layout.getBounds();
         float x = (float)bounds.getMinX() + (float)bounds.getWidth() * anchor.getX();
         float y = (float)bounds.getMinY() + (float)bounds.getHeight() * anchor.getY();
-		g.drawString(text, -x, -y);
+		g.translate(-x, -y);
+		if (fillColor != null) {
+			g.setColor(fillColor);
+			g.fill(layout.getOutline());
+		}
 		
         // If requested, also draw outline
 		if (outlineColor != null && thickness > 0.0f) {
+			if (stroke == null)
+				stroke = new BasicStroke(thickness);
 			g.setColor(outlineColor);
-			GlyphVector gv = font.createGlyphVector(g.getFontRenderContext(), text);
-			Shape shape = gv.getOutline();
-			g.setStroke(new BasicStroke(thickness));
-			g.translate(-x, -y);
-			g.draw(shape);
+			g.setStroke(stroke);
+			g.draw(layout.getOutline());
 		}
 
         // Restore old properties
 		g.setTransform(origTransform);
-		g.setFont(origFont);
 		g.setColor(origColor);
         if (origComposite != null)
             g.setComposite(origComposite);
@@ -0,0 +1,151 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs small images into a few large pages, so that sprites share the same accelerated surfaces.
+ * Packed regions are never freed, which is fine for the bounded set of sprites used by levels.
+ * Pages are accounted by the image cache budget, evicting other images instead.
+ * This class is thread-safe, as images may be packed by decoding threads.
+ */
+public class TextureAtlas {
+
+    // Transparent border around each region, avoiding bleeding when filtering
+    private static final int PADDING = 1;
+
+    // Packed region of a page
+    private static final class Region {
+
+        final BufferedImage page;
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+
+        Region(BufferedImage page, int x, int y, int width, int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+    }
+
+    private final int pageSize;
+    private final int maxSize;
+    private final List<BufferedImage> pages;
+    private final Map<String, Region> regions;
+
+    // Current shelf of last page
+    private int shelfX;
+    private int shelfY;
+    private int shelfHeight;
+
+    /**
+     * Creates a new empty atlas.
+     * @param pageSize width and height of each page, in pixels, positive
+     * @param maxSize maximal width and height of packed images, in pixels, positive and smaller than page size
+     */
+    public TextureAtlas(int pageSize, int maxSize) {
+        if (maxSize <= 0 || maxSize + 2 * PADDING > pageSize)
+            throw new IllegalArgumentException();
+        this.pageSize = pageSize;
+        this.maxSize = maxSize;
+        pages = new ArrayList<>();
+        regions = new HashMap<>();
+    }
+
+    /**
+     * Packs specified image, and completes target image with the associated region.
+     * @param name full name of image, not null
+     * @param source decoded image, not null
+     * @param target pending image to complete, not null
+     * @return false if image is too large to be packed, in which case target is left untouched
+     */
+    public synchronized boolean add(String name, BufferedImage source, SwingImage target) {
+        Region region = regions.get(name);
+        if (region == null) {
+            int width = source.getWidth();
+            int height = source.getHeight();
+            if (width > maxSize || height > maxSize)
+                return false;
+            region = allocate(width, height);
+            Graphics2D graphics = region.page.createGraphics();
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(source, region.x, region.y, null);
+            graphics.dispose();
+            regions.put(name, region);
+        }
+        target.complete(region.page, region.x, region.y, region.width, region.height);
+        return true;
+    }
+
+    /**
+     * Completes target image with the region of an already packed image, if any.
+     * @param name full name of image, not null
+     * @param target pending image to complete, not null
+     * @return whether specified image was already packed
+     */
+    public synchronized boolean restore(String name, SwingImage target) {
+        Region region = regions.get(name);
+        if (region == null)
+            return false;
+        target.complete(region.page, region.x, region.y, region.width, region.height);
+        return true;
+    }
+
+    // Find room using shelf packing, creating a new page if needed
+    private Region allocate(int width, int height) {
+        int w = width + 2 * PADDING;
+        int h = height + 2 * PADDING;
+        if (shelfX + w > pageSize) {
+            shelfX = 0;
+            shelfY += shelfHeight;
+            shelfHeight = 0;
+        }
+        if (pages.isEmpty() || shelfY + h > pageSize) {
+            pages.add(createPage());
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+        Region region = new Region(pages.get(pages.size() - 1), shelfX + PADDING, shelfY + PADDING, width, height);
+        shelfX += w;
+        shelfHeight = Math.max(shelfHeight, h);
+        return region;
+    }
+
+    // Create an image suited for display
+    private BufferedImage createPage() {
+        if (GraphicsEnvironment.isHeadless())
+            return new BufferedImage(pageSize, pageSize, BufferedImage.TYPE_INT_ARGB_PRE);
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        return config.createCompatibleImage(pageSize, pageSize, Transparency.TRANSLUCENT);
+    }
+
+    /** @return number of pages */
+    public synchronized int getPageCount() {
+        return pages.size();
+    }
+
+    /** @return number of packed images */
+    public synchronized int getImageCount() {
+        return regions.size();
+    }
+
+    /** @return memory used by pages, in bytes, assuming 32-bit pixels */
+    public synchronized long getMemory() {
+        return 4L * pageSize * pageSize * pages.size();
+    }
+
+}
@@ -0,0 +1,294 @@
+package ch.epfl.cs107.play.window.swing;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-renders items that never move into world-aligned tiles, at current zoom.
+ * Tiles are kept in least-recently-used order and evicted under a memory budget.
+ */
+public class TileCache {
+
+    // Marker for tiles without any content
+    private static final BufferedImage EMPTY = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private final int tileSize;
+    private long budget;
+    private long memory;
+
+    // Fixed items, grouped by depth
+    private float[] depths;
+    private List<List<Item>> layers;
+
+    // Rendered tiles, indexed by layer and tile coordinates
+    private final LinkedHashMap<Long, BufferedImage> tiles;
+    private double scale;
+    private int originX;
+    private int originY;
+    private boolean aligned;
+    private GraphicsConfiguration configuration;
+    private int rendered;
+
+    /**
+     * Creates a new tile cache.
+     * @param tileSize tile width and height, in pixels, positive
+     * @param budget maximal memory used by tiles, in bytes, non-negative
+     */
+    public TileCache(int tileSize, long budget) {
+        if (tileSize <= 0 || budget < 0)
+            throw new IllegalArgumentException();
+        this.tileSize = tileSize;
+        this.budget = budget;
+        depths = new float[4];
+        layers = new ArrayList<>();
+        tiles = new LinkedHashMap<>(64, 0.75f, true);
+    }
+
+    /**
+     * Sets maximal memory used by tiles, evicting least recently used ones if needed.
+     * @param budget memory, in bytes, non-negative
+     */
+    public void setBudget(long budget) {
+        if (budget < 0)
+            throw new IllegalArgumentException();
+        this.budget = budget;
+        evict();
+    }
+
+    /** @return maximal memory used by tiles, in bytes */
+    public long getBudget() {
+        return budget;
+    }
+
+    /** @return memory currently used by tiles, in bytes */
+    public long getMemory() {
+        return memory;
+    }
+
+    /** @return number of tiles rendered since creation */
+    public int getRenderedCount() {
+        return rendered;
+    }
+
+    /**
+     * Adds a fixed item, discarding tiles it overlaps.
+     * @param item any item, not null
+     */
+    public void add(Item item) {
+        float depth = item.getDepth();
+        int index = Arrays.binarySearch(depths, 0, layers.size(), depth);
+        if (index < 0) {
+
+            // Layer indices are part of tile keys, hence they all become invalid
+            index = -index - 1;
+            int count = layers.size();
+            if (count == depths.length)
+                depths = Arrays.copyOf(depths, 2 * count);
+            System.arraycopy(depths, index, depths, index + 1, count - index);
+            depths[index] = depth;
+            layers.add(index, new ArrayList<>());
+            clear();
+        }
+        layers.get(index).add(item);
+        discard(index, item);
+    }
+
+    /**
+     * Removes a fixed item, discarding tiles it overlaps.
+     * @param item previously added item, not null
+     */
+    public void remove(Item item) {
+        int index = Arrays.binarySearch(depths, 0, layers.size(), item.getDepth());
+        if (index >= 0 && layers.get(index).remove(item))
+            discard(index, item);
+    }
+
+    /** Discards all tiles, which will be rendered again when needed. */
+    public void clear() {
+        tiles.clear();
+        memory = 0;
+    }
+
+    /** @return number of depth layers */
+    public int getLayerCount() {
+        return layers.size();
+    }
+
+    /**
+     * @param index layer index, between 0 and layer count, in increasing depth
+     * @return depth of specified layer
+     */
+    public float getLayerDepth(int index) {
+        if (index < 0 || index >= layers.size())
+            throw new IndexOutOfBoundsException();
+        return depths[index];
+    }
+
+    /**
+     * @param depth any depth
+     * @return index of the layer at specified depth, or -1 if there is none
+     */
+    public int getLayerIndex(float depth) {
+        int index = Arrays.binarySearch(depths, 0, layers.size(), depth);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Prepares rendering of a new frame, discarding all tiles if zoom changed.
+     * @param transform world to pixel transform, not null
+     * @param configuration graphics configuration used to create tiles, may be null
+     */
+    public void begin(AffineTransform transform, GraphicsConfiguration configuration) {
+        this.configuration = configuration;
+
+        // Tiles are only usable for scaling and translation, with vertical axis pointing down
+        aligned = transform.getShearX() == 0.0 && transform.getShearY() == 0.0 &&
+                transform.getScaleX() > 0.0 && transform.getScaleX() == -transform.getScaleY();
+        if (!aligned)
+            return;
+        double scale = transform.getScaleX();
+        if (scale != this.scale) {
+            this.scale = scale;
+            clear();
+        }
+
+        // Snap world origin to pixel grid, so that adjacent tiles match exactly
+        originX = (int) Math.round(transform.getTranslateX());
+        originY = (int) Math.round(transform.getTranslateY());
+    }
+
+    /**
+     * Draws visible tiles of specified layer.
+     * @param g target context, in world coordinates, not null
+     * @param base target context transform before world transform, not null
+     * @param index layer index, between 0 and layer count
+     * @param width visible width, in pixels
+     * @param height visible height, in pixels
+     */
+    public void render(Graphics2D g, AffineTransform base, int index, int width, int height) {
+        List<Item> layer = layers.get(index);
+        if (layer.isEmpty())
+            return;
+
+        // Draw directly if tiles cannot be used
+        if (!aligned) {
+            for (Item item : layer)
+                item.render(g);
+            return;
+        }
+
+        // Blit visible tiles in pixel coordinates
+        AffineTransform world = g.getTransform();
+        g.setTransform(base);
+        int minX = Math.floorDiv(-originX, tileSize);
+        int maxX = Math.floorDiv(width - originX, tileSize);
+        int minY = Math.floorDiv(originY - height, tileSize);
+        int maxY = Math.floorDiv(originY, tileSize);
+        for (int ty = minY; ty <= maxY; ++ty)
+            for (int tx = minX; tx <= maxX; ++tx) {
+                BufferedImage tile = getTile(index, tx, ty);
+                if (tile != EMPTY)
+                    g.drawImage(tile, originX + tx * tileSize, originY - (ty + 1) * tileSize, null);
+            }
+        g.setTransform(world);
+        evict();
+    }
+
+    // Get tile from cache, or render it
+    private BufferedImage getTile(int index, int tx, int ty) {
+        Long key = key(index, tx, ty);
+        BufferedImage tile = tiles.get(key);
+        if (tile == null) {
+            tile = renderTile(layers.get(index), tx, ty);
+            tiles.put(key, tile);
+            memory += size(tile);
+        }
+        return tile;
+    }
+
+    // Rasterize overlapping items in a new tile
+    private BufferedImage renderTile(List<Item> layer, int tx, int ty) {
+        double extent = tileSize / scale;
+        double margin = 1.0 / scale;
+        Rectangle2D area = new Rectangle2D.Double(tx * extent - margin, ty * extent - margin, extent + 2 * margin, extent + 2 * margin);
+        BufferedImage tile = null;
+        Graphics2D g = null;
+        for (Item item : layer) {
+            Rectangle2D bounds = item.getBounds();
+            if (bounds != null && !bounds.intersects(area))
+                continue;
+            if (tile == null) {
+                tile = configuration != null ?
+                        configuration.createCompatibleImage(tileSize, tileSize, Transparency.TRANSLUCENT) :
+                        new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_INT_ARGB_PRE);
+                g = tile.createGraphics();
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g.transform(new AffineTransform(scale, 0.0, 0.0, -scale, -tx * tileSize, (ty + 1) * tileSize));
+            }
+            item.render(g);
+        }
+        if (tile == null)
+            return EMPTY;
+        g.dispose();
+        ++rendered;
+        return tile;
+    }
+
+    // Discard tiles overlapped by specified item
+    private void discard(int index, Item item) {
+        Rectangle2D bounds = item.getBounds();
+        if (bounds == null || !aligned) {
+            clear();
+            return;
+        }
+        double extent = tileSize / scale;
+        double margin = 1.0 / scale;
+        int minX = (int) Math.floor((bounds.getMinX() - margin) / extent);
+        int maxX = (int) Math.floor((bounds.getMaxX() + margin) / extent);
+        int minY = (int) Math.floor((bounds.getMinY() - margin) / extent);
+        int maxY = (int) Math.floor((bounds.getMaxY() + margin) / extent);
+        Iterator<Map.Entry<Long, BufferedImage>> iterator = tiles.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, BufferedImage> entry = iterator.next();
+            long key = entry.getKey();
+            int tx = (int) (key << 16 >> 40);
+            int ty = (int) (key << 40 >> 40);
+            if ((int) (key >>> 48) == index && tx >= minX && tx <= maxX && ty >= minY && ty <= maxY) {
+                memory -= size(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    // Remove least recently used tiles until budget is respected
+    private void evict() {
+        Iterator<BufferedImage> iterator = tiles.values().iterator();
+        while (memory > budget && iterator.hasNext()) {
+            memory -= size(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    // Pack layer and 24-bit tile coordinates
+    private static long key(int index, int tx, int ty) {
+        return ((long) index << 48) | ((tx & 0xFFFFFFL) << 24) | (ty & 0xFFFFFFL);
+    }
+
+    // Estimate memory usage
+    private static long size(BufferedImage tile) {
+        return tile == EMPTY ? 0 : 4L * tile.getWidth() * tile.getHeight();
+    }
+
+}
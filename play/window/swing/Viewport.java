@@ -0,0 +1,70 @@
+package ch.epfl.cs107.play.window.swing;
+
+import ch.epfl.cs107.play.math.Transform;
+import ch.epfl.cs107.play.math.Vector;
+import java.awt.geom.AffineTransform;
+
+/**
+ * Maps the view of a window to a frame buffer, the longer side spanning [-1, 1] in view coordinates,
+ * and the shorter one spanning a proportionally smaller range, so that the aspect ratio is kept.
+ */
+class Viewport {
+
+    private int width;
+    private int height;
+    private float halfX;
+    private float halfY;
+    private Transform viewToWorld;
+    private AffineTransform transform;
+
+    /**
+     * Updates metrics, to be called once per frame.
+     * @param viewToWorld view transform, from view to world coordinates, not null
+     * @param width frame buffer width, in pixels
+     * @param height frame buffer height, in pixels
+     */
+    public void update(Transform viewToWorld, int width, int height) {
+        this.width = width;
+        this.height = height;
+        if (width > height) {
+            halfX = 1.0f;
+            halfY = (float) height / (float) width;
+        } else {
+            halfX = (float) width / (float) height;
+            halfY = 1.0f;
+        }
+        this.viewToWorld = viewToWorld;
+        Transform projection = new Transform(0.5f * width / halfX, 0.0f, 0.5f * width, 0.0f, -0.5f * height / halfY, 0.5f * height);
+        Transform t = viewToWorld.inverted().transformed(projection);
+        transform = new AffineTransform(t.m00, t.m10, t.m01, t.m11, t.m02, t.m12);
+    }
+
+    /** @return frame buffer width, in pixels */
+    public int getWidth() {
+        return width;
+    }
+
+    /** @return frame buffer height, in pixels */
+    public int getHeight() {
+        return height;
+    }
+
+    /** @return new transform from world coordinates to pixels, not null */
+    public AffineTransform getTransform() {
+        return new AffineTransform(transform);
+    }
+
+    /**
+     * @param x horizontal position, in pixels
+     * @param y vertical position, in pixels
+     * @return corresponding location, in world coordinates, not null
+     */
+    public Vector toWorld(float x, float y) {
+        if (width <= 0 || height <= 0)
+            return viewToWorld.onPoint(0.0f, 0.0f);
+        float viewX = (x - 0.5f * width) * 2.0f * halfX / width;
+        float viewY = (y - 0.5f * height) * -2.0f * halfY / height;
+        return viewToWorld.onPoint(viewX, viewY);
+    }
+
+}